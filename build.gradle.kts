@@ -5,6 +5,7 @@ plugins {
     `maven-publish`
     id("org.ajoberstar.grgit") version "5.3.0"
     id("com.gradleup.shadow") version "8.3.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 var currentBranch: String = grgit.branch.current().name
@@ -40,6 +41,16 @@ allprojects {
     }
 }
 
+dependencies {
+    "jmhImplementation"("io.papermc.paper:paper-api:1.17-R0.1-SNAPSHOT")
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
 }
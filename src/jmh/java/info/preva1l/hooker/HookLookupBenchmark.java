@@ -0,0 +1,78 @@
+package info.preva1l.hooker;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Compares {@link HookRegistry} lookups against the linear scan {@code Hooker#getHook} used to do.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HookLookupBenchmark {
+    private static final Class<?>[] HOOK_CLASSES = {
+            String.class, Integer.class, Long.class, Short.class, Byte.class, Double.class, Float.class,
+            Character.class, Boolean.class, Object.class, Thread.class, StringBuilder.class, Map.class,
+            HashMap.class, Optional.class, Runnable.class, Iterable.class, Number.class, Enum.class, Record.class,
+            Math.class, System.class, Runtime.class, Class.class, ClassLoader.class, Throwable.class,
+            Exception.class, Error.class, Void.class, Process.class, Module.class, Package.class
+    };
+
+    @Param({"4", "32"})
+    public int hooks;
+
+    private final HookRegistry registry = new HookRegistry(Logger.getAnonymousLogger());
+    private final Map<Class<?>, Object> legacy = new HashMap<>();
+    private Class<?> target;
+    private HookHandle<?> handle;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < hooks; i++) {
+            Object hook = new Object();
+            registry.put(HOOK_CLASSES[i], hook);
+            legacy.put(HOOK_CLASSES[i], hook);
+        }
+        target = HOOK_CLASSES[hooks - 1];
+        handle = registry.handle(target);
+    }
+
+    @Benchmark
+    public Optional<?> registry() {
+        return registry.get(target);
+    }
+
+    @Benchmark
+    public Optional<?> linearScan() {
+        for (Map.Entry<Class<?>, Object> hook : legacy.entrySet()) {
+            if (hook.getKey() == target) {
+                Object value = hook.getValue();
+                return Optional.of(value);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public Object handle() {
+        return handle.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<?> registryContended() {
+        return registry.get(target);
+    }
+}
@@ -0,0 +1,122 @@
+package info.preva1l.hooker;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Measures the load, reload, disable and lookup paths of a {@link Hooker} over a jar of synthetic hooks.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HookerBenchmark {
+    @State(Scope.Benchmark)
+    public static class Synthetic {
+        @Param({"10", "1000"})
+        public int classes;
+
+        HookerRuntime hooker;
+        Class<?> target;
+        private SyntheticHooks hooks;
+        private URLClassLoader loader;
+        private Logger logger;
+
+        @Setup(Level.Trial)
+        public void setup() throws ClassNotFoundException {
+            hooks = SyntheticHooks.generate(classes);
+            loader = hooks.loader();
+            target = Class.forName(SyntheticHooks.className(0), false, loader);
+
+            logger = Logger.getAnonymousLogger();
+            logger.setLevel(java.util.logging.Level.OFF);
+            hooker = runtime();
+        }
+
+        /**
+         * A runtime can't load again once it has been disabled, so each invocation that disables gets a new one.
+         */
+        void replace() {
+            hooker.disableHooks();
+            hooker = runtime();
+        }
+
+        private HookerRuntime runtime() {
+            return new HookerRuntime(target, HookerOptions.builder(SyntheticHooks.PACKAGE)
+                    .logger(logger)
+                    .build());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            hooker.disableHooks();
+            loader.close();
+            hooks.close();
+        }
+    }
+
+    /**
+     * Each invocation gets a new runtime so load always starts from nothing.
+     */
+    @State(Scope.Benchmark)
+    public static class Unloaded extends Synthetic {
+        @Setup(Level.Invocation)
+        public void unload() {
+            replace();
+        }
+    }
+
+    /**
+     * Each invocation gets a new runtime with every hook loaded so there is always something to disable.
+     */
+    @State(Scope.Benchmark)
+    public static class Loaded extends Synthetic {
+        @Setup(Level.Invocation)
+        public void load() {
+            replace();
+            hooker.loadPhase(HookOrder.ENABLE).join();
+        }
+    }
+
+    /**
+     * Every hook is loaded once, for benchmarks that don't change what's loaded.
+     */
+    @State(Scope.Benchmark)
+    public static class Running extends Synthetic {
+        @Setup(Level.Trial)
+        public void load() {
+            hooker.loadPhase(HookOrder.ENABLE).join();
+        }
+    }
+
+    @Benchmark
+    public LoadResult load(Unloaded state) {
+        return state.hooker.loadPhase(HookOrder.ENABLE).join();
+    }
+
+    @Benchmark
+    public DisableResult disable(Loaded state) {
+        return state.hooker.disableHooks();
+    }
+
+    @Benchmark
+    public ReloadResult reload(Running state) {
+        return state.hooker.reloadHooks().join();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<?> getHook(Running state) {
+        return state.hooker.registry().get(state.target);
+    }
+}
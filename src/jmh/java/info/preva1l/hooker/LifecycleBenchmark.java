@@ -0,0 +1,81 @@
+package info.preva1l.hooker;
+
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.OnStart;
+import info.preva1l.hooker.annotation.OnStop;
+import info.preva1l.hooker.annotation.Reloadable;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reloading a hook through its cached {@link HookMetadata} against the per call
+ * {@code getDeclaredMethods} scan and {@link Method#invoke} that was used before.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LifecycleBenchmark {
+    private HookMetadata metadata;
+    private Object hook;
+
+    @Setup
+    public void setup() {
+        metadata = HookMetadata.of(BenchmarkHook.class);
+        hook = metadata.construct();
+    }
+
+    @Benchmark
+    public boolean metadataReload() {
+        metadata.stop(hook);
+        return metadata.start(hook);
+    }
+
+    @Benchmark
+    public boolean reflectiveReload() throws Exception {
+        Method start = null;
+        Method stop = null;
+        for (Method method : hook.getClass().getDeclaredMethods()) {
+            if (method.isAnnotationPresent(OnStart.class)) start = method;
+            if (method.isAnnotationPresent(OnStop.class)) stop = method;
+        }
+        stop.setAccessible(true);
+        start.setAccessible(true);
+        stop.invoke(hook);
+        return !(start.invoke(hook) instanceof Boolean load) || load;
+    }
+
+    @Benchmark
+    public Object metadataConstruct() {
+        return metadata.construct();
+    }
+
+    @Benchmark
+    public Object reflectiveConstruct() throws Exception {
+        return BenchmarkHook.class.getDeclaredConstructor().newInstance();
+    }
+
+    @Hook(id = "benchmark")
+    @Reloadable
+    public static class BenchmarkHook {
+        private int starts;
+
+        @OnStart
+        public boolean onStart() {
+            return ++starts > 0;
+        }
+
+        @OnStop
+        public void onStop() {
+            starts--;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package info.preva1l.hooker;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how a cold classpath scan scales with the number of workers, for both a jar and an exploded
+ * classes directory.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ParallelScanBenchmark {
+    private static final String[] PACKAGES = {SyntheticHooks.PACKAGE};
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"jar", "exploded"})
+    public String layout;
+
+    @Param({"10000"})
+    public int classes;
+
+    private SyntheticHooks hooks;
+    private ForkJoinPool pool;
+    private URLClassLoader loader;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        hooks = SyntheticHooks.generate(classes);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @Setup(Level.Invocation)
+    public void open() {
+        loader = layout.equals("jar") ? hooks.loader() : hooks.explodedLoader();
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeLoader() throws IOException {
+        loader.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        pool.shutdown();
+        hooks.close();
+    }
+
+    @Benchmark
+    public Collection<Class<?>> scan() {
+        return HookScanner.scanClasspath(loader, PACKAGES, pool);
+    }
+}
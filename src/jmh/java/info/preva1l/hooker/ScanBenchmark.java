@@ -0,0 +1,68 @@
+package info.preva1l.hooker;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Measures a cold classpath scan of a jar, with a fresh class loader every invocation so no class is already loaded.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ScanBenchmark {
+    private static final String[] PACKAGES = {SyntheticHooks.PACKAGE};
+
+    @Param({"10", "1000", "10000"})
+    public int classes;
+
+    private HookerOptions options;
+    private Instrumentation instrumentation;
+    private SyntheticHooks hooks;
+    private URLClassLoader loader;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setLevel(java.util.logging.Level.OFF);
+        options = HookerOptions.builder(PACKAGES).logger(logger).build();
+        instrumentation = new Instrumentation(null, logger);
+        hooks = SyntheticHooks.generate(classes);
+    }
+
+    @Setup(Level.Invocation)
+    public void open() {
+        loader = hooks.loader();
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeLoader() throws IOException {
+        loader.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        hooks.close();
+    }
+
+    @Benchmark
+    public Collection<Class<?>> scanClasspath() {
+        return HookScanner.scanClasspath(loader, PACKAGES);
+    }
+
+    @Benchmark
+    public Object scan() {
+        return HookScanner.scan(loader, options, instrumentation);
+    }
+}
@@ -0,0 +1,183 @@
+package info.preva1l.hooker;
+
+import info.preva1l.hooker.annotation.Hook;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates a jar of synthetic classes for the benchmarks to scan and load, every tenth class is a hook.
+ * Classes are spread over sub packages of {@value #PACKAGE} so directory scans have subtrees to split.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class SyntheticHooks implements AutoCloseable {
+    static final String PACKAGE = "synthetic.hooks";
+    static final int HOOK_EVERY = 10;
+    static final int PACKAGE_SIZE = 100;
+
+    private final Path directory;
+    private final Path classes;
+    private final Path jar;
+
+    private SyntheticHooks(Path directory, Path classes, Path jar) {
+        this.directory = directory;
+        this.classes = classes;
+        this.jar = jar;
+    }
+
+    /**
+     * @param index the index of a class.
+     * @return the binary name of the class.
+     */
+    static String className(int index) {
+        return packageOf(index) + "." + simpleName(index);
+    }
+
+    /**
+     * Compile a jar of synthetic classes.
+     *
+     * @param classes how many classes the jar should contain.
+     * @return the generated jar, delete it with {@link #close()}.
+     */
+    static SyntheticHooks generate(int classes) {
+        try {
+            Path directory = Files.createTempDirectory("hooker-jmh");
+            Path sources = Files.createDirectories(directory.resolve("src"));
+            Path output = Files.createDirectories(directory.resolve("classes"));
+
+            List<String> files = new ArrayList<>(classes + 2);
+            for (int i = 0; i < classes; i++) {
+                String name = simpleName(i);
+                Path source = sources.resolve(name + ".java");
+                Files.writeString(source, i % HOOK_EVERY == 0 ? hook(packageOf(i), name, i) : plain(packageOf(i), name));
+                files.add(source.toString());
+            }
+
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            if (compiler == null) throw new IllegalStateException("The benchmarks must be run on a JDK!");
+
+            List<String> arguments = new ArrayList<>(List.of(
+                    "-proc:none",
+                    "-nowarn",
+                    "-cp", Path.of(Hook.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString(),
+                    "-d", output.toString()
+            ));
+            arguments.addAll(files);
+            int result = compiler.run(null, OutputStream.nullOutputStream(), System.err, arguments.toArray(String[]::new));
+            if (result != 0) throw new IllegalStateException("Failed to compile the synthetic hooks!");
+
+            Path jar = directory.resolve("hooks.jar");
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+                 Stream<Path> compiled = Files.walk(output)) {
+                for (Path file : (Iterable<Path>) compiled.filter(file -> !file.equals(output))::iterator) {
+                    String name = output.relativize(file).toString().replace('\\', '/');
+                    // directory entries are needed for the package to be found as a resource
+                    boolean folder = Files.isDirectory(file);
+                    out.putNextEntry(new JarEntry(folder ? name + "/" : name));
+                    if (!folder) Files.copy(file, out);
+                    out.closeEntry();
+                }
+            }
+            return new SyntheticHooks(directory, output, jar);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to generate the synthetic hooks!", e);
+        }
+    }
+
+    /**
+     * Open a fresh class loader so nothing is cached from a previous scan.
+     *
+     * @return a class loader for the jar, parented to the loader hooker was loaded by.
+     */
+    URLClassLoader loader() {
+        return loader(jar);
+    }
+
+    /**
+     * Open a fresh class loader over the compiled classes directory, the exploded layout used in development.
+     *
+     * @return a class loader for the classes directory, parented to the loader hooker was loaded by.
+     */
+    URLClassLoader explodedLoader() {
+        return loader(classes);
+    }
+
+    private static URLClassLoader loader(Path path) {
+        try {
+            return new URLClassLoader(new URL[]{path.toUri().toURL()}, Hooker.class.getClassLoader());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static String packageOf(int index) {
+        return PACKAGE + ".p" + index / PACKAGE_SIZE;
+    }
+
+    private static String simpleName(int index) {
+        return (index % HOOK_EVERY == 0 ? "Hook" : "Plain") + index;
+    }
+
+    private static String hook(String pkg, String name, int index) {
+        return """
+                package %s;
+
+                import info.preva1l.hooker.annotation.*;
+
+                @Hook(id = "hook-%d")
+                @Reloadable
+                public class %s {
+                    private int starts;
+
+                    @OnStart
+                    public boolean start() {
+                        return ++starts > 0;
+                    }
+
+                    @OnStop
+                    public void stop() {
+                        starts--;
+                    }
+                }
+                """.formatted(pkg, index, name);
+    }
+
+    private static String plain(String pkg, String name) {
+        return """
+                package %s;
+
+                public class %s {
+                    public int value() {
+                        return %d;
+                    }
+                }
+                """.formatted(pkg, name, name.hashCode());
+    }
+}
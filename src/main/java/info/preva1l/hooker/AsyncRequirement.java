@@ -0,0 +1,29 @@
+package info.preva1l.hooker;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A requirement check that completes asynchronously.
+ * <p>
+ * Use this for checks that block, such as querying a database, probing a socket or hashing a file,
+ * so they don't hold up the thread that is loading hooks.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@FunctionalInterface
+public interface AsyncRequirement {
+    /**
+     * Check a requirement value.
+     * <p>
+     * This is called on the thread loading the hooks, so it should hand any blocking work off to another thread
+     * and return straight away.
+     * </p>
+     *
+     * @param value the value to check.
+     * @return a future that completes with true if the requirement is met.
+     */
+    CompletableFuture<Boolean> test(String value);
+}
@@ -0,0 +1,39 @@
+package info.preva1l.hooker;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Schedules with the bukkit scheduler.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class BukkitHookScheduler implements HookScheduler {
+    private final Plugin plugin;
+
+    BukkitHookScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void runSync(Runnable task) {
+        Bukkit.getScheduler().runTask(plugin, task);
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
+    }
+
+    @Override
+    public void runLater(Runnable task, long ticks) {
+        Bukkit.getScheduler().runTaskLater(plugin, task, ticks);
+    }
+
+    @Override
+    public boolean isSyncThread() {
+        return Bukkit.isPrimaryThread();
+    }
+}
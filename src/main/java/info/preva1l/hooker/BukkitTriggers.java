@@ -0,0 +1,49 @@
+package info.preva1l.hooker;
+
+import info.preva1l.hooker.annotation.Await;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginEnableEvent;
+import org.bukkit.event.server.ServerLoadEvent;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Fires the {@link Await#PLUGIN} and {@link Await#SERVER_LOAD} triggers from bukkit events.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class BukkitTriggers implements Listener {
+    private final HookTriggers triggers;
+
+    private BukkitTriggers(HookTriggers triggers) {
+        this.triggers = triggers;
+    }
+
+    /**
+     * Start firing triggers from bukkit events, the plugin must be enabled.
+     *
+     * @param plugin   the plugin to register the listener for.
+     * @param triggers the triggers to fire.
+     */
+    static void register(Plugin plugin, HookTriggers triggers) {
+        Bukkit.getPluginManager().registerEvents(new BukkitTriggers(triggers), plugin);
+        // plugins enabled before this one don't get another event
+        for (Plugin other : Bukkit.getPluginManager().getPlugins()) {
+            if (other.isEnabled()) triggers.fire(Await.PLUGIN, other.getName());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginEnable(PluginEnableEvent event) {
+        triggers.fire(Await.PLUGIN, event.getPlugin().getName());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onServerLoad(ServerLoadEvent event) {
+        triggers.fire(Await.SERVER_LOAD, "");
+    }
+}
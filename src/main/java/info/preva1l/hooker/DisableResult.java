@@ -0,0 +1,30 @@
+package info.preva1l.hooker;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A summary of disabling the hooks.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ *
+ * @param stopped  the ids of the hooks that were stopped, with how long each stop took in nanoseconds.
+ * @param failed   the ids of the hooks whose stop threw an exception, with the exception.
+ * @param timedOut the ids of the hooks that did not stop in time, or were not stopped as the shutdown deadline passed.
+ * @param duration how long disabling took in nanoseconds.
+ */
+public record DisableResult(
+        Map<String, Long> stopped,
+        Map<String, Throwable> failed,
+        List<String> timedOut,
+        long duration
+) {
+    /**
+     * @return how many hooks were stopped.
+     */
+    public int count() {
+        return stopped.size();
+    }
+}
@@ -0,0 +1,57 @@
+package info.preva1l.hooker;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules on ordinary executors, see {@link HookScheduler#executor(Executor, Executor)}.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class ExecutorHookScheduler implements HookScheduler {
+    private static final long MILLIS_PER_TICK = 50;
+
+    private final Executor sync;
+    private final Executor async;
+    // true while a sync task is running on the current thread
+    private final ThreadLocal<Boolean> syncThread = ThreadLocal.withInitial(() -> false);
+
+    ExecutorHookScheduler(Executor sync, Executor async) {
+        this.sync = sync;
+        this.async = async;
+    }
+
+    @Override
+    public void runSync(Runnable task) {
+        sync.execute(sync(task));
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        async.execute(task);
+    }
+
+    @Override
+    public void runLater(Runnable task, long ticks) {
+        CompletableFuture.delayedExecutor(ticks * MILLIS_PER_TICK, TimeUnit.MILLISECONDS, sync).execute(sync(task));
+    }
+
+    @Override
+    public boolean isSyncThread() {
+        return syncThread.get();
+    }
+
+    private Runnable sync(Runnable task) {
+        return () -> {
+            syncThread.set(true);
+            try {
+                task.run();
+            } finally {
+                syncThread.remove();
+            }
+        };
+    }
+}
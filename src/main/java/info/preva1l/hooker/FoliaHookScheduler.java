@@ -0,0 +1,98 @@
+package info.preva1l.hooker;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+
+/**
+ * Schedules with the Folia global region and async schedulers.
+ * <p>
+ * Hooker compiles against an api that predates the region schedulers, so they are looked up rather than linked against.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class FoliaHookScheduler implements HookScheduler {
+    private static final String REGIONIZED_SERVER = "io.papermc.paper.threadedregions.RegionizedServer";
+
+    private final Plugin plugin;
+    private final Server server;
+    private final Method isGlobalTickThread;
+    private final Object globalRegion;
+    private final Method execute;
+    private final Method runDelayed;
+    private final Object async;
+    private final Method runNow;
+
+    FoliaHookScheduler(Plugin plugin) {
+        this.plugin = plugin;
+        try {
+            this.server = Bukkit.getServer();
+            this.isGlobalTickThread = Server.class.getMethod("isGlobalTickThread");
+            this.globalRegion = Server.class.getMethod("getGlobalRegionScheduler").invoke(server);
+            this.async = Server.class.getMethod("getAsyncScheduler").invoke(server);
+
+            Class<?> globalRegionType = Class.forName("io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler");
+            Class<?> asyncType = Class.forName("io.papermc.paper.threadedregions.scheduler.AsyncScheduler");
+            this.execute = globalRegionType.getMethod("execute", Plugin.class, Runnable.class);
+            this.runDelayed = globalRegionType.getMethod("runDelayed", Plugin.class, Consumer.class, long.class);
+            this.runNow = asyncType.getMethod("runNow", Plugin.class, Consumer.class);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to find the Folia schedulers!", e);
+        }
+    }
+
+    /**
+     * @return true if the server is running Folia.
+     */
+    static boolean isSupported() {
+        try {
+            Class.forName(REGIONIZED_SERVER);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void runSync(Runnable task) {
+        invoke(execute, globalRegion, plugin, task);
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        invoke(runNow, async, plugin, scheduled(task));
+    }
+
+    @Override
+    public void runLater(Runnable task, long ticks) {
+        // folia rejects delays of less than a tick
+        invoke(runDelayed, globalRegion, plugin, scheduled(task), Math.max(1, ticks));
+    }
+
+    @Override
+    public boolean isSyncThread() {
+        return (boolean) invoke(isGlobalTickThread, server);
+    }
+
+    private static Consumer<Object> scheduled(Runnable task) {
+        return scheduledTask -> task.run();
+    }
+
+    private static Object invoke(Method method, Object scheduler, Object... arguments) {
+        try {
+            return method.invoke(scheduler, arguments);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new RuntimeException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package info.preva1l.hooker;
+
+/**
+ * The circuit breaker of a single hook, so a hook that keeps failing to start stops being started.
+ * <p>
+ * The breaker opens once the hook has failed {@link HookerOptions#breakerThreshold} times in a row,
+ * while it's open nothing starts the hook. After {@link HookerOptions#breakerCooldown} one start is let through,
+ * if it succeeds the breaker closes and if it fails the breaker opens for another cooldown.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class HookBreaker {
+    private final int threshold;
+    private final long cooldown;
+
+    private int failures;
+    private boolean open;
+    private long openedAt;
+
+    /**
+     * @param threshold how many failures in a row open the breaker.
+     * @param cooldown  how long the breaker stays open for, in nanoseconds.
+     */
+    HookBreaker(int threshold, long cooldown) {
+        this.threshold = threshold;
+        this.cooldown = cooldown;
+    }
+
+    /**
+     * Check if the hook may be started, letting a single start through once the cooldown has passed.
+     *
+     * @return true if the hook may be started.
+     */
+    synchronized boolean allow() {
+        if (!open) return true;
+        long now = System.nanoTime();
+        if (now - openedAt < cooldown) return false;
+        // restart the cooldown so only this start is let through
+        openedAt = now;
+        return true;
+    }
+
+    /**
+     * @return true if the breaker is open, without letting a start through.
+     */
+    synchronized boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Record a successful start, closing the breaker.
+     */
+    synchronized void success() {
+        failures = 0;
+        open = false;
+    }
+
+    /**
+     * Record a failed start.
+     *
+     * @return true if this failure opened the breaker.
+     */
+    synchronized boolean failure() {
+        failures++;
+        if (failures < threshold) return false;
+
+        boolean opened = !open;
+        open = true;
+        openedAt = System.nanoTime();
+        return opened;
+    }
+
+    /**
+     * @return how many times in a row the hook has failed.
+     */
+    synchronized int failures() {
+        return failures;
+    }
+}
@@ -0,0 +1,161 @@
+package info.preva1l.hooker;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.zip.CRC32C;
+
+/**
+ * The startup cache, the hooks found by scanning a jar so warm restarts don't have to scan it again.
+ * <p>
+ * The cache is written in the {@link HookIndex} format after a header and a key line, with the same attributes
+ * as the index so a cache hit never has to read the hooks annotations.
+ * The key holds the scanned packages and the size, modification time and CRC32C of every scanned jar,
+ * when any of them change the cache is ignored and rewritten.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class HookCache {
+    // v1 caches from before the metadata was written are rescanned
+    private static final String HEADER = "# hooker cache v2";
+    private static final long CHUNK = Integer.MAX_VALUE;
+
+    private HookCache() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Create the cache key for a scan.
+     *
+     * @param packages    the scanned packages.
+     * @param jars        the jars the packages resolved to.
+     * @param directories the directories the packages resolved to.
+     * @return the key, or null if the scan can't be cached because it includes directories.
+     * @throws IOException if a jar could not be read.
+     */
+    static @Nullable String key(String[] packages, Collection<Path> jars, Map<Path, String> directories) throws IOException {
+        // a directory can change without its own modification time changing
+        if (jars.isEmpty() || !directories.isEmpty()) return null;
+
+        List<Path> sorted = new ArrayList<>(jars);
+        Collections.sort(sorted);
+        List<String> fingerprints = new ArrayList<>(sorted.size());
+        for (Path jar : sorted) {
+            BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+            fingerprints.add(jar.toAbsolutePath() + "|" + attributes.size() + "|"
+                    + attributes.lastModifiedTime().toMillis() + "|" + Long.toHexString(checksum(jar)));
+        }
+
+        Map<String, String> key = new LinkedHashMap<>();
+        key.put("packages", HookIndex.join(List.of(packages)));
+        key.put("jars", HookIndex.join(fingerprints));
+        return HookIndex.format("key", key);
+    }
+
+    /**
+     * Read the cached hooks.
+     *
+     * @param cache the cache file.
+     * @param key   the key of the current scan.
+     * @return the cached hooks, or null if there is no cache or it was written for a different key.
+     * @throws IOException if the cache exists but could not be read.
+     */
+    static @Nullable List<HookIndex.Entry> read(Path cache, String key) throws IOException {
+        if (!Files.isRegularFile(cache)) return null;
+
+        try (BufferedReader reader = Files.newBufferedReader(cache)) {
+            if (!HEADER.equals(reader.readLine()) || !key.equals(reader.readLine())) return null;
+
+            List<HookIndex.Entry> entries = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                entries.add(HookIndex.parse(line));
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * Write the hooks to the cache, replacing the old cache in one move so a crash never leaves half a cache.
+     *
+     * @param cache the cache file.
+     * @param key   the key of the scan that found the hooks.
+     * @param hooks the hooks.
+     * @throws IOException if the cache could not be written.
+     */
+    static void write(Path cache, String key, Collection<HookMetadata> hooks) throws IOException {
+        Path parent = cache.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        Path temp = cache.resolveSibling(cache.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp)) {
+            writer.write(HEADER);
+            writer.newLine();
+            writer.write(key);
+            writer.newLine();
+            for (HookMetadata hook : hooks) {
+                writer.write(HookIndex.format(hook.hookClass().getName(), attributes(hook)));
+                writer.newLine();
+            }
+        }
+
+        try {
+            Files.move(temp, cache, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, cache, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static Map<String, String> attributes(HookMetadata hook) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("id", hook.id());
+        attributes.put("order", hook.order().name());
+        if (hook.async()) attributes.put("async", "true");
+        if (hook.lazy()) attributes.put("lazy", "true");
+
+        List<String> requires = new ArrayList<>();
+        for (HookMetadata.Requirement requirement : hook.requirements()) {
+            requires.add(requirement.type() + ":" + requirement.value());
+        }
+        if (!requires.isEmpty()) attributes.put("require", HookIndex.join(requires));
+
+        List<String> awaits = new ArrayList<>();
+        for (HookMetadata.Trigger trigger : hook.awaits()) {
+            awaits.add(trigger.type() + ":" + trigger.value());
+        }
+        if (!awaits.isEmpty()) attributes.put("await", HookIndex.join(awaits));
+        if (!hook.dependsOn().isEmpty()) attributes.put("depends", HookIndex.join(hook.dependsOn()));
+
+        if (hook.startMethod() != null) attributes.put("start", hook.startMethod());
+        if (hook.stopMethod() != null) attributes.put("stop", hook.stopMethod());
+        if (hook.reloadable() != null) attributes.put("reloadable", hook.reloadable().async() ? "async" : "sync");
+        if (hook.reloadable() != null && hook.reloadable().swap()) attributes.put("swap", "true");
+        if (hook.idleAfter() != null) attributes.put("evictable", String.valueOf(hook.idleAfter().toMillis()));
+        HookMetadata.RetryPolicy retry = hook.retry();
+        if (retry != null) {
+            attributes.put("retry", retry.maxAttempts() + ":" + retry.backoff().toMillis() + ":" + retry.maxBackoff().toMillis());
+        }
+        return attributes;
+    }
+
+    private static long checksum(Path jar) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += CHUNK) {
+                crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(CHUNK, size - position)));
+            }
+        }
+        return crc.getValue();
+    }
+}
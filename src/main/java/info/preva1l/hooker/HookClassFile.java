@@ -0,0 +1,150 @@
+package info.preva1l.hooker;
+
+import info.preva1l.hooker.annotation.Hook;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads just enough of a class file to tell if it is annotated with {@link Hook}, without loading the class.
+ * <p>
+ * The descriptor is built from {@code Hook.class} so the check still matches when hooker has been relocated.
+ * Class files that don't mention the descriptor anywhere in their constant pool are rejected without reading
+ * past it.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class HookClassFile {
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final byte[] HOOK = ('L' + Hook.class.getName().replace('.', '/') + ';')
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations".getBytes(StandardCharsets.UTF_8);
+
+    private HookClassFile() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Check if a class file is annotated with {@link Hook}.
+     *
+     * @param bytes the class file.
+     * @return true if the class is a hook, false if it isn't or the class file is malformed.
+     */
+    static boolean isHook(ByteBuffer bytes) {
+        try {
+            return readIsHook(bytes);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean readIsHook(ByteBuffer in) {
+        if (in.getInt() != MAGIC) return false;
+        skip(in, 4); // minor and major version
+
+        int poolSize = in.getShort() & 0xFFFF;
+        int hook = -1;
+        int visibleAnnotations = -1;
+        for (int i = 1; i < poolSize; i++) {
+            int tag = in.get();
+            switch (tag) {
+                case 1 -> { // Utf8
+                    int length = in.getShort() & 0xFFFF;
+                    if (matches(in, HOOK)) hook = i;
+                    else if (matches(in, VISIBLE_ANNOTATIONS)) visibleAnnotations = i;
+                    skip(in, length);
+                }
+                case 7, 8, 16, 19, 20 -> skip(in, 2); // Class, String, MethodType, Module, Package
+                case 15 -> skip(in, 3); // MethodHandle
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> skip(in, 4);
+                case 5, 6 -> { // Long and Double take two slots
+                    skip(in, 8);
+                    i++;
+                }
+                default -> throw new IllegalArgumentException("Unknown constant pool tag " + tag);
+            }
+        }
+        if (hook == -1 || visibleAnnotations == -1) return false;
+
+        skip(in, 6); // access flags, this class and super class
+        skip(in, 2 * (in.getShort() & 0xFFFF)); // interfaces
+        skipMembers(in); // fields
+        skipMembers(in); // methods
+
+        int attributes = in.getShort() & 0xFFFF;
+        for (int i = 0; i < attributes; i++) {
+            int name = in.getShort() & 0xFFFF;
+            int length = in.getInt();
+            if (name != visibleAnnotations) {
+                skip(in, length);
+                continue;
+            }
+
+            int annotations = in.getShort() & 0xFFFF;
+            for (int j = 0; j < annotations; j++) {
+                if ((in.getShort() & 0xFFFF) == hook) return true;
+                skipElementValuePairs(in);
+            }
+            return false;
+        }
+        return false;
+    }
+
+    private static boolean matches(ByteBuffer in, byte[] expected) {
+        int length = in.getShort(in.position() - 2) & 0xFFFF;
+        if (length != expected.length) return false;
+        int start = in.position();
+        for (int i = 0; i < expected.length; i++) {
+            if (in.get(start + i) != expected[i]) return false;
+        }
+        return true;
+    }
+
+    private static void skipMembers(ByteBuffer in) {
+        int members = in.getShort() & 0xFFFF;
+        for (int i = 0; i < members; i++) {
+            skip(in, 6); // access flags, name and descriptor
+            int attributes = in.getShort() & 0xFFFF;
+            for (int j = 0; j < attributes; j++) {
+                skip(in, 2);
+                skip(in, in.getInt());
+            }
+        }
+    }
+
+    private static void skipElementValuePairs(ByteBuffer in) {
+        int pairs = in.getShort() & 0xFFFF;
+        for (int i = 0; i < pairs; i++) {
+            skip(in, 2); // element name
+            skipElementValue(in);
+        }
+    }
+
+    private static void skipElementValue(ByteBuffer in) {
+        int tag = in.get();
+        switch (tag) {
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> skip(in, 2);
+            case 'e' -> skip(in, 4);
+            case '@' -> {
+                skip(in, 2);
+                skipElementValuePairs(in);
+            }
+            case '[' -> {
+                int values = in.getShort() & 0xFFFF;
+                for (int i = 0; i < values; i++) {
+                    skipElementValue(in);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown element value tag " + tag);
+        }
+    }
+
+    private static void skip(ByteBuffer in, int bytes) {
+        if (bytes < 0) throw new IllegalArgumentException("Negative length " + bytes);
+        in.position(in.position() + bytes);
+    }
+}
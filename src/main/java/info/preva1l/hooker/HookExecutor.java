@@ -0,0 +1,227 @@
+package info.preva1l.hooker;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the async lifecycle work and requirement checks of hooks, see {@link HookerOptions.Builder#executor(HookExecutor)}.
+ * <p>
+ * Work runs on virtual threads when the JVM supports them, otherwise on a bounded pool of daemon threads,
+ * so blocking hooks never hold up the common pool or the server's scheduler.
+ * Each hook can only run a limited number of tasks at once, the rest wait their turn without taking a thread,
+ * and the thread running a task is named after the hook.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+public final class HookExecutor {
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static volatile HookExecutor shared;
+
+    private final @Nullable ThreadFactory virtualThreads;
+    private final @Nullable ThreadPoolExecutor pool;
+    private final int perHookLimit;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    // lanes of hooks run by a runtime live with the hook class, so they go when its plugin is unloaded
+    private final ClassValue<Lane> hookLanes = new ClassValue<>() {
+        @Override
+        protected Lane computeValue(Class<?> type) {
+            // a hook's metadata is always resolved before it runs anything
+            return new Lane(HookMetadata.of(type).id());
+        }
+    };
+
+    private HookExecutor(@Nullable ThreadFactory virtualThreads, int threads, int perHookLimit) {
+        this.virtualThreads = virtualThreads;
+        this.perHookLimit = perHookLimit;
+        if (virtualThreads != null) {
+            this.pool = null;
+        } else {
+            this.pool = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), new WorkerThreadFactory());
+            this.pool.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    /**
+     * Get the executor shared by every plugin using this copy of hooker, created by {@link #create()} on first use.
+     *
+     * @return the shared executor.
+     */
+    public static HookExecutor shared() {
+        HookExecutor executor = shared;
+        if (executor != null) return executor;
+        synchronized (HookExecutor.class) {
+            if (shared == null) shared = create();
+            return shared;
+        }
+    }
+
+    /**
+     * Create an executor that runs one task per hook at a time,
+     * on a pool of four threads per core if virtual threads aren't supported.
+     *
+     * @return the executor.
+     */
+    public static HookExecutor create() {
+        return create(1);
+    }
+
+    /**
+     * Create an executor, on a pool of four threads per core if virtual threads aren't supported.
+     *
+     * @param perHookLimit how many tasks a single hook can run at once.
+     * @return the executor.
+     */
+    public static HookExecutor create(int perHookLimit) {
+        return create(Math.max(8, Runtime.getRuntime().availableProcessors() * 4), perHookLimit);
+    }
+
+    /**
+     * Create an executor.
+     *
+     * @param threads      how many threads the pool has if virtual threads aren't supported.
+     * @param perHookLimit how many tasks a single hook can run at once.
+     * @return the executor.
+     */
+    public static HookExecutor create(int threads, int perHookLimit) {
+        return create(threads, perHookLimit, true);
+    }
+
+    /**
+     * Create an executor that always uses a pool, even if virtual threads are supported.
+     *
+     * @param threads      how many threads the pool has.
+     * @param perHookLimit how many tasks a single hook can run at once.
+     * @return the executor.
+     */
+    public static HookExecutor pooled(int threads, int perHookLimit) {
+        return create(threads, perHookLimit, false);
+    }
+
+    private static HookExecutor create(int threads, int perHookLimit, boolean virtual) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be at least 1");
+        if (perHookLimit < 1) throw new IllegalArgumentException("perHookLimit must be at least 1");
+        return new HookExecutor(virtual ? virtualThreads() : null, threads, perHookLimit);
+    }
+
+    /**
+     * @return true if tasks run on virtual threads.
+     */
+    public boolean isVirtual() {
+        return virtualThreads != null;
+    }
+
+    /**
+     * Run a task for a hook, once the hook has fewer than its limit of tasks running.
+     *
+     * @param hook the id of the hook the task is for.
+     * @param task the task.
+     */
+    public void execute(String hook, Runnable task) {
+        lanes.computeIfAbsent(hook, Lane::new).submit(task);
+    }
+
+    /**
+     * Run a task for a hook, keyed by its class so two plugins' hooks with the same id or class name
+     * don't share a limit.
+     *
+     * @param hookClass the class of the hook the task is for.
+     * @param task      the task.
+     */
+    void execute(Class<?> hookClass, Runnable task) {
+        hookLanes.get(hookClass).submit(task);
+    }
+
+    private void dispatch(String hook, Runnable task) {
+        String name = "Hooker " + hook;
+        if (virtualThreads != null) {
+            Thread thread = virtualThreads.newThread(task);
+            thread.setName(name);
+            thread.start();
+            return;
+        }
+
+        pool.execute(() -> {
+            Thread thread = Thread.currentThread();
+            String previous = thread.getName();
+            thread.setName(name);
+            try {
+                task.run();
+            } finally {
+                thread.setName(previous);
+            }
+        });
+    }
+
+    /**
+     * Thread.ofVirtual() is only available from Java 21, so it is looked up rather than linked against.
+     */
+    private static @Nullable ThreadFactory virtualThreads() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The tasks of a single hook, at most {@link #perHookLimit} of them are dispatched at once.
+     */
+    private final class Lane {
+        private final String hook;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger running = new AtomicInteger();
+
+        private Lane(String hook) {
+            this.hook = hook;
+        }
+
+        private void submit(Runnable task) {
+            queue.add(task);
+            drain();
+        }
+
+        private void drain() {
+            while (!queue.isEmpty()) {
+                int current = running.get();
+                if (current >= perHookLimit) return;
+                if (!running.compareAndSet(current, current + 1)) continue;
+
+                Runnable task = queue.poll();
+                if (task == null) {
+                    // another thread took it, loop round in case something was queued in the meantime
+                    running.decrementAndGet();
+                    continue;
+                }
+
+                dispatch(hook, () -> {
+                    try {
+                        task.run();
+                    } finally {
+                        running.decrementAndGet();
+                        drain();
+                    }
+                });
+            }
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Hooker Worker #" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package info.preva1l.hooker;
+
+import info.preva1l.hooker.annotation.DependsOn;
+
+import java.util.*;
+
+/**
+ * The dependency graph between hooks, built from {@link DependsOn}.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class HookGraph {
+    private final Map<HookMetadata, List<HookMetadata>> dependencies;
+    private final List<HookMetadata> order;
+
+    private HookGraph(Map<HookMetadata, List<HookMetadata>> dependencies, List<HookMetadata> order) {
+        this.dependencies = dependencies;
+        this.order = order;
+    }
+
+    /**
+     * Build and validate the graph.
+     *
+     * @param hooks every registered hook.
+     * @return the graph.
+     * @throws IllegalStateException if a dependency is unknown, loads in a later phase or forms a cycle.
+     */
+    static HookGraph build(Collection<HookMetadata> hooks) {
+        Map<String, HookMetadata> byId = new HashMap<>();
+        for (HookMetadata hook : hooks) {
+            HookMetadata existing = byId.put(hook.id(), hook);
+            if (existing != null && existing != hook) {
+                throw new IllegalStateException("Hooks " + existing.hookClass().getName() + " and "
+                        + hook.hookClass().getName() + " share the id " + hook.id() + "!");
+            }
+        }
+
+        Map<HookMetadata, List<HookMetadata>> dependencies = new HashMap<>();
+        for (HookMetadata hook : hooks) {
+            List<HookMetadata> resolved = new ArrayList<>();
+            for (String id : hook.dependsOn()) {
+                HookMetadata dependency = byId.get(id);
+                if (dependency == null) {
+                    throw new IllegalStateException("Hook " + hook.id() + " depends on unknown hook " + id + "!");
+                }
+                if (dependency.order().compareTo(hook.order()) > 0) {
+                    throw new IllegalStateException("Hook " + hook.id() + " depends on " + id
+                            + " which loads in a later phase!");
+                }
+                resolved.add(dependency);
+            }
+            dependencies.put(hook, List.copyOf(resolved));
+        }
+
+        List<HookMetadata> sorted = new ArrayList<>(hooks);
+        sorted.sort(Comparator.comparing(HookMetadata::order));
+
+        List<HookMetadata> order = new ArrayList<>();
+        Map<HookMetadata, Boolean> visited = new HashMap<>();
+        for (HookMetadata hook : sorted) {
+            visit(hook, dependencies, visited, new ArrayDeque<>(), order);
+        }
+        return new HookGraph(dependencies, List.copyOf(order));
+    }
+
+    private static void visit(
+            HookMetadata hook,
+            Map<HookMetadata, List<HookMetadata>> dependencies,
+            Map<HookMetadata, Boolean> visited,
+            Deque<HookMetadata> path,
+            List<HookMetadata> order
+    ) {
+        Boolean done = visited.get(hook);
+        if (Boolean.TRUE.equals(done)) return;
+        path.addLast(hook);
+        if (done != null) {
+            StringJoiner cycle = new StringJoiner(" -> ");
+            boolean inCycle = false;
+            for (HookMetadata node : path) {
+                if (node == hook) inCycle = true;
+                if (inCycle) cycle.add(node.id());
+            }
+            throw new IllegalStateException("Hook dependency cycle detected: " + cycle + "!");
+        }
+
+        visited.put(hook, false);
+        for (HookMetadata dependency : dependencies.getOrDefault(hook, List.of())) {
+            visit(dependency, dependencies, visited, path, order);
+        }
+        visited.put(hook, true);
+        path.removeLast();
+        order.add(hook);
+    }
+
+    /**
+     * Get the direct dependencies of a hook.
+     *
+     * @param hook the hook.
+     * @return the hooks it depends on.
+     */
+    List<HookMetadata> dependencies(HookMetadata hook) {
+        return dependencies.getOrDefault(hook, List.of());
+    }
+
+    /**
+     * Sort hooks so every hook comes after its dependencies.
+     *
+     * @param hooks the hooks to sort.
+     * @return the hooks in topological order.
+     */
+    List<HookMetadata> sort(Collection<HookMetadata> hooks) {
+        Set<HookMetadata> wanted = new HashSet<>(hooks);
+        List<HookMetadata> sorted = new ArrayList<>(wanted.size());
+        for (HookMetadata hook : order) {
+            if (wanted.contains(hook)) sorted.add(hook);
+        }
+        return sorted;
+    }
+
+    /**
+     * @return every hook, dependencies first.
+     */
+    List<HookMetadata> order() {
+        return order;
+    }
+}
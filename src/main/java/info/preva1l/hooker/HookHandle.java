@@ -0,0 +1,320 @@
+package info.preva1l.hooker;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A long-lived reference to a hook.
+ * <p>
+ * Handles are updated in place whenever their hook is loaded, reloaded or disabled, so they can be cached
+ * (for example in a static field) and read on hot paths without a map lookup or any allocation.
+ * It is safe to read a handle from any thread.
+ * </p>
+ *
+ * <pre>{@code
+ * private static final HookHandle<MyHook> MY_HOOK = Hooker.handle(MyHook.class);
+ *
+ * @EventHandler
+ * public void onChat(AsyncPlayerChatEvent event) {
+ *     MY_HOOK.ifLoaded(hook -> hook.handle(event));
+ * }
+ * }</pre>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ *
+ * @param <T> the hook type.
+ */
+public final class HookHandle<T> {
+    private final Class<T> hookClass;
+    private final Logger logger;
+
+    private final List<Consumer<T>> loadListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<T>> unloadListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<T>> reloadListeners = new CopyOnWriteArrayList<>();
+
+    private volatile Optional<T> hook = Optional.empty();
+    // the start of a lazy hook that hasn't been used yet and the runner it has to start on, guarded by this
+    private volatile @Nullable Runnable deferred;
+    private @Nullable Consumer<Runnable> runner;
+    private boolean starting;
+    private boolean queued;
+
+    // eviction tracking, accessed stays true for hooks that aren't tracked so reads never write it
+    private volatile boolean tracked;
+    private volatile boolean accessed = true;
+    private volatile long lastAccess;
+    // set by the sweeper when it finds the hook idle, only then can it be evicted
+    private volatile boolean idle;
+
+    HookHandle(Class<T> hookClass, Logger logger) {
+        this.hookClass = hookClass;
+        this.logger = logger;
+    }
+
+    /**
+     * @return the hook class this handle references.
+     */
+    public Class<T> hookClass() {
+        return hookClass;
+    }
+
+    /**
+     * Get the hook.
+     * <p>
+     * A {@link info.preva1l.hooker.annotation.Lazy} hook is started by the first call, see {@link #optional()}.
+     * </p>
+     *
+     * @return the hook instance, or null if it is not loaded.
+     */
+    public @Nullable T get() {
+        return optional().orElse(null);
+    }
+
+    /**
+     * Get the hook as an optional.
+     * <p>
+     * The optional is created when the hook is loaded, so this does not allocate.
+     * A {@link info.preva1l.hooker.annotation.Lazy} hook is started by the first call. Hooks that aren't async
+     * only ever start on the main thread, when first requested from another thread they are queued to start there
+     * and this returns an empty optional until they have.
+     * </p>
+     *
+     * @return the hook if loaded, empty optional if not.
+     */
+    public Optional<T> optional() {
+        if (!accessed) accessed = true;
+        Optional<T> current = hook;
+        if (current.isPresent() || deferred == null) return current;
+        return start();
+    }
+
+    /**
+     * Check if the hook is loaded, this never starts a {@link info.preva1l.hooker.annotation.Lazy} hook.
+     *
+     * @return true if the hook is loaded.
+     */
+    public boolean isLoaded() {
+        return hook.isPresent();
+    }
+
+    /**
+     * Run an action with the hook if it is loaded.
+     * <p>
+     * A {@link info.preva1l.hooker.annotation.Lazy} hook is started by the first call.
+     * </p>
+     *
+     * @param action the action to run.
+     */
+    public void ifLoaded(Consumer<T> action) {
+        optional().ifPresent(action);
+    }
+
+    /**
+     * Subscribe to the hook being loaded.
+     * <p>
+     * If the hook is already loaded the listener is called straight away.
+     * </p>
+     *
+     * @param listener the listener, called with the loaded instance.
+     * @return this handle.
+     */
+    public HookHandle<T> onLoad(Consumer<T> listener) {
+        loadListeners.add(listener);
+        hook.ifPresent(instance -> call(listener, instance));
+        return this;
+    }
+
+    /**
+     * Subscribe to the hook being disabled.
+     *
+     * @param listener the listener, called with the instance that was disabled.
+     * @return this handle.
+     */
+    public HookHandle<T> onUnload(Consumer<T> listener) {
+        unloadListeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Subscribe to the hook being reloaded.
+     *
+     * @param listener the listener, called with the instance that is loaded after the reload.
+     * @return this handle.
+     */
+    public HookHandle<T> onReload(Consumer<T> listener) {
+        reloadListeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Defer loading the hook until it is first requested.
+     *
+     * @param start  starts the hook and publishes it with {@link #loaded(Object)}, it must not throw.
+     * @param runner runs the start where the hook has to be started, running it straight away when already there,
+     *               or null to start it on the thread that requests it.
+     */
+    synchronized void defer(Runnable start, @Nullable Consumer<Runnable> runner) {
+        deferred = start;
+        this.runner = runner;
+    }
+
+    /**
+     * @return true if the hook is waiting to be started when it's first requested.
+     */
+    boolean isDeferred() {
+        return deferred != null;
+    }
+
+    /**
+     * Stop a deferred hook from being started, waiting for it to finish if it is being started right now.
+     */
+    synchronized void cancel() {
+        deferred = null;
+    }
+
+    /**
+     * Start tracking when the hook is used so it can be evicted, until it is evicted or unloaded.
+     */
+    void track() {
+        lastAccess = System.nanoTime();
+        accessed = true;
+        idle = false;
+        tracked = true;
+    }
+
+    /**
+     * Check if a tracked hook has been idle for long enough to evict.
+     * <p>
+     * Only the sweeper may call this, each call resets whether the hook has been used.
+     * </p>
+     *
+     * @param now       the current {@link System#nanoTime()}.
+     * @param idleAfter how long the hook can be idle for, in nanoseconds.
+     * @return true if the hook should be evicted.
+     */
+    boolean idle(long now, long idleAfter) {
+        idle = false;
+        if (!tracked || hook.isEmpty()) return false;
+        if (accessed) {
+            accessed = false;
+            lastAccess = now;
+            return false;
+        }
+        idle = now - lastAccess >= idleAfter;
+        return idle;
+    }
+
+    /**
+     * Evict the hook if the sweeper found it idle and it still hasn't been used since,
+     * new requests wait for it to be stopped and then start it again.
+     *
+     * @param stop    stops the evicted instance.
+     * @param restart starts the hook again and publishes it with {@link #loaded(Object)}, it must not throw.
+     * @param runner  runs the restart, see {@link #defer(Runnable, Consumer)}.
+     * @return true if the hook was evicted.
+     */
+    synchronized boolean evict(Consumer<T> stop, Runnable restart, @Nullable Consumer<Runnable> runner) {
+        Optional<T> current = hook;
+        if (!tracked || !idle || accessed || current.isEmpty()) return false;
+
+        idle = false;
+        tracked = false;
+        accessed = true;
+        hook = Optional.empty();
+        deferred = restart;
+        this.runner = runner;
+
+        T instance = current.get();
+        try {
+            stop.accept(instance);
+        } catch (Throwable t) {
+            logger.log(Level.WARNING, "Failed to stop evicted hook " + hookClass.getName() + "!", t);
+        }
+        unloadListeners.forEach(listener -> call(listener, instance));
+        return true;
+    }
+
+    /**
+     * @return the hook instance, without starting a lazy hook.
+     */
+    @Nullable T current() {
+        return hook.orElse(null);
+    }
+
+    private Optional<T> start() {
+        Consumer<Runnable> runner;
+        synchronized (this) {
+            // a start that is already queued is waited for on the runner, not here
+            if (deferred == null || starting || queued) return hook;
+            runner = this.runner;
+            if (runner == null) return startNow();
+            queued = true;
+        }
+
+        try {
+            runner.accept(this::startQueued);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                queued = false;
+            }
+            logger.log(Level.WARNING, "Failed to queue the start of hook " + hookClass.getName() + "!", e);
+        }
+        return hook;
+    }
+
+    private synchronized void startQueued() {
+        queued = false;
+        startNow();
+    }
+
+    private synchronized Optional<T> startNow() {
+        Runnable start = deferred;
+        // the hook's own start can request it, it gets nothing rather than starting it again
+        if (start == null || starting) return hook;
+
+        starting = true;
+        try {
+            start.run();
+        } finally {
+            starting = false;
+            deferred = null;
+        }
+        return hook;
+    }
+
+    void loaded(Object instance) {
+        T cast = hookClass.cast(instance);
+        hook = Optional.of(cast);
+        loadListeners.forEach(listener -> call(listener, cast));
+    }
+
+    void reloaded(Object instance) {
+        T cast = hookClass.cast(instance);
+        if (hook.orElse(null) != cast) hook = Optional.of(cast);
+        reloadListeners.forEach(listener -> call(listener, cast));
+    }
+
+    void unloaded() {
+        tracked = false;
+        accessed = true;
+        Optional<T> previous = hook;
+        hook = Optional.empty();
+        previous.ifPresent(instance -> unloadListeners.forEach(listener -> call(listener, instance)));
+    }
+
+    private void call(Consumer<T> listener, T instance) {
+        try {
+            listener.accept(instance);
+        } catch (Throwable t) {
+            logger.log(Level.WARNING, "A listener for hook " + hookClass.getName() + " threw an exception!", t);
+        }
+    }
+}
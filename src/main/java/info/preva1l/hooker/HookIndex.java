@@ -0,0 +1,250 @@
+package info.preva1l.hooker;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * The compile time hook index written by the {@code HookIndexProcessor}.
+ * <p>
+ * Each line of the index describes one hook class, the class name comes first followed by tab separated
+ * {@code key=value} attributes. Values are url encoded so they can never contain the separators.
+ * Unknown attributes are ignored so newer processors can add to the format without breaking older readers.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@ApiStatus.Internal
+public final class HookIndex {
+    /**
+     * Where the index is written to and read from.
+     */
+    public static final String LOCATION = "META-INF/hooker/hooks.idx";
+    /**
+     * The first line of every index file.
+     */
+    public static final String HEADER = "# hooker index v1";
+
+    private HookIndex() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Read every index visible to the class loader.
+     *
+     * @param loader the class loader to read the index from.
+     * @return the indexed hooks, or null if no index exists and the caller should fall back to scanning.
+     * @throws IOException if an index exists but could not be read.
+     */
+    public static @Nullable List<Entry> read(ClassLoader loader) throws IOException {
+        if (loader == null) return null;
+
+        Enumeration<URL> resources = loader.getResources(LOCATION);
+        if (!resources.hasMoreElements()) return null;
+
+        List<Entry> entries = new ArrayList<>();
+        while (resources.hasMoreElements()) {
+            URL resource = resources.nextElement();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank() || line.startsWith("#")) continue;
+                    entries.add(parse(line));
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Format a single index line.
+     *
+     * @param className  the binary name of the hook class.
+     * @param attributes the hooks attributes, in the order they should be written.
+     * @return the formatted line, without a line separator.
+     */
+    public static String format(String className, Map<String, String> attributes) {
+        StringBuilder builder = new StringBuilder(className);
+        attributes.forEach((key, value) -> builder.append('\t')
+                .append(key)
+                .append('=')
+                .append(URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return builder.toString();
+    }
+
+    /**
+     * Parse a single index line.
+     *
+     * @param line the line to parse.
+     * @return the parsed entry.
+     */
+    public static Entry parse(String line) {
+        String[] parts = line.split("\t");
+        Map<String, String> attributes = new HashMap<>();
+        for (int i = 1; i < parts.length; i++) {
+            int split = parts[i].indexOf('=');
+            if (split == -1) continue;
+            attributes.put(
+                    parts[i].substring(0, split),
+                    URLDecoder.decode(parts[i].substring(split + 1), StandardCharsets.UTF_8)
+            );
+        }
+        return new Entry(parts[0], attributes);
+    }
+
+    /**
+     * Join a list of values into a single attribute value.
+     *
+     * @param values the values to join.
+     * @return the joined value.
+     */
+    public static String join(Collection<String> values) {
+        StringJoiner joiner = new StringJoiner(",");
+        values.forEach(value -> joiner.add(URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return joiner.toString();
+    }
+
+    private static List<String> split(@Nullable String value) {
+        if (value == null || value.isEmpty()) return List.of();
+        List<String> values = new ArrayList<>();
+        for (String part : value.split(",")) {
+            values.add(URLDecoder.decode(part, StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    /**
+     * A single indexed hook.
+     */
+    public static final class Entry {
+        private final String className;
+        private final Map<String, String> attributes;
+
+        Entry(String className, Map<String, String> attributes) {
+            this.className = className;
+            this.attributes = attributes;
+        }
+
+        /**
+         * @return the binary name of the hook class.
+         */
+        public String className() {
+            return className;
+        }
+
+        /**
+         * @return the hook's id.
+         */
+        public String id() {
+            return attributes.getOrDefault("id", className);
+        }
+
+        /**
+         * @return when the hook should be loaded.
+         */
+        public HookOrder order() {
+            String order = attributes.get("order");
+            return order == null ? HookOrder.ENABLE : HookOrder.valueOf(order);
+        }
+
+        /**
+         * @return true if the hook is started async.
+         */
+        public boolean async() {
+            return Boolean.parseBoolean(attributes.get("async"));
+        }
+
+        /**
+         * @return true if the hook is only started when it is first used.
+         */
+        public boolean lazy() {
+            return Boolean.parseBoolean(attributes.get("lazy"));
+        }
+
+        /**
+         * @return the hook's requirements as {@code type:value} pairs.
+         */
+        public List<String> requires() {
+            return split(attributes.get("require"));
+        }
+
+        /**
+         * @return the triggers the hook awaits as {@code type:value} pairs.
+         */
+        public List<String> awaits() {
+            return split(attributes.get("await"));
+        }
+
+        /**
+         * @return the ids of the hooks this hook depends on.
+         */
+        public List<String> dependsOn() {
+            return split(attributes.get("depends"));
+        }
+
+        /**
+         * @return the name of the {@code @OnStart} method, or null if there is none.
+         */
+        public @Nullable String onStart() {
+            return attributes.get("start");
+        }
+
+        /**
+         * @return the name of the {@code @OnStop} method, or null if there is none.
+         */
+        public @Nullable String onStop() {
+            return attributes.get("stop");
+        }
+
+        /**
+         * @return {@code sync} or {@code async} if the hook is reloadable, null otherwise.
+         */
+        public @Nullable String reloadable() {
+            return attributes.get("reloadable");
+        }
+
+        /**
+         * @return true if a new instance of the hook is swapped in when it's reloaded.
+         */
+        public boolean swap() {
+            return Boolean.parseBoolean(attributes.get("swap"));
+        }
+
+        /**
+         * @return how many milliseconds the hook can be idle before it is evicted, or -1 if it is not evictable.
+         */
+        public long evictable() {
+            String evictable = attributes.get("evictable");
+            return evictable == null ? -1 : Long.parseLong(evictable);
+        }
+
+        /**
+         * @return the retry policy as {@code maxAttempts:backoff} or {@code maxAttempts:backoff:maxBackoff} in
+         * milliseconds, or null if the hook is not retried.
+         */
+        public @Nullable String retry() {
+            return attributes.get("retry");
+        }
+
+        /**
+         * Get a raw attribute.
+         *
+         * @param key the attribute key.
+         * @return the attribute value, or null if it is not present.
+         */
+        public @Nullable String attribute(String key) {
+            return attributes.get(key);
+        }
+    }
+}
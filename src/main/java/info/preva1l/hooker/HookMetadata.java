@@ -0,0 +1,438 @@
+package info.preva1l.hooker;
+
+import info.preva1l.hooker.annotation.*;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Everything hooker needs to know about a hook class, resolved once when the hook is registered.
+ * <p>
+ * Only the hooks index entry, or its annotations if it wasn't indexed, are read when the hook is registered. The constructor and lifecycle methods are resolved
+ * the first time the hook is constructed, after its requirements have passed, as their signatures can use types
+ * from plugins that may not be installed. They are stored as {@link MethodHandle}s so loading, reloading and
+ * disabling a hook never has to look up or reflectively invoke its methods again.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class HookMetadata {
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(Object.class);
+    private static final MethodType START = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType STOP = MethodType.methodType(void.class, Object.class);
+    // metadata never changes once resolved, so every runtime in the jvm shares it
+    private static final ClassValue<AtomicReference<HookMetadata>> CACHE = new ClassValue<>() {
+        @Override
+        protected AtomicReference<HookMetadata> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private final Class<?> hookClass;
+    private final String id;
+    private final HookOrder order;
+    private final boolean async;
+    private final boolean lazy;
+    private final @Nullable Duration idleAfter;
+    private final @Nullable ReloadPolicy reloadable;
+    private final List<Requirement> requirements;
+    private final List<String> dependsOn;
+    private final List<Trigger> awaits;
+    private final @Nullable RetryPolicy retry;
+
+    // the lifecycle method names from the hooks index, if it was indexed
+    private final @Nullable String startHint;
+    private final @Nullable String stopHint;
+    private volatile @Nullable Lifecycle lifecycle;
+
+    private HookMetadata(
+            Class<?> hookClass,
+            String id,
+            HookOrder order,
+            boolean async,
+            boolean lazy,
+            @Nullable Duration idleAfter,
+            @Nullable ReloadPolicy reloadable,
+            List<Requirement> requirements,
+            List<String> dependsOn,
+            List<Trigger> awaits,
+            @Nullable RetryPolicy retry,
+            @Nullable String startHint,
+            @Nullable String stopHint
+    ) {
+        this.hookClass = hookClass;
+        this.id = id;
+        this.order = order;
+        this.async = async;
+        this.lazy = lazy;
+        this.idleAfter = idleAfter;
+        this.reloadable = reloadable;
+        this.requirements = requirements;
+        this.dependsOn = dependsOn;
+        this.awaits = awaits;
+        this.retry = retry;
+        this.startHint = startHint;
+        this.stopHint = stopHint;
+    }
+
+    /**
+     * Resolve the metadata of a hook from its annotations.
+     *
+     * @param hookClass the hook class.
+     * @return the metadata.
+     */
+    static HookMetadata of(Class<?> hookClass) {
+        return of(hookClass, null);
+    }
+
+    /**
+     * Resolve the metadata of a hook.
+     * <p>
+     * When an index entry is provided the metadata is read from it instead of the hooks annotations,
+     * and the lifecycle methods are later looked up by name instead of searching every declared method.
+     * A hook class is only ever resolved once.
+     * </p>
+     *
+     * @param hookClass the hook class.
+     * @param entry     the hooks index entry, if it was indexed.
+     * @return the metadata.
+     * @throws IllegalStateException if the class was not indexed and is not annotated with {@link Hook}.
+     */
+    static HookMetadata of(Class<?> hookClass, @Nullable HookIndex.Entry entry) {
+        AtomicReference<HookMetadata> cached = CACHE.get(hookClass);
+        HookMetadata metadata = cached.get();
+        if (metadata != null) return metadata;
+
+        metadata = entry == null ? resolve(hookClass) : resolve(hookClass, entry);
+        return cached.compareAndSet(null, metadata) ? metadata : cached.get();
+    }
+
+    private static HookMetadata resolve(Class<?> hookClass, HookIndex.Entry entry) {
+        List<Requirement> requirements = new ArrayList<>();
+        for (String require : entry.requires()) {
+            int split = require.indexOf(':');
+            requirements.add(new Requirement(require.substring(0, split), require.substring(split + 1)));
+        }
+        List<Trigger> awaits = new ArrayList<>();
+        for (String await : entry.awaits()) {
+            int split = await.indexOf(':');
+            awaits.add(new Trigger(await.substring(0, split), await.substring(split + 1)));
+        }
+        String reloadable = entry.reloadable();
+        String retry = entry.retry();
+        RetryPolicy policy = null;
+        if (retry != null) {
+            String[] parts = retry.split(":");
+            policy = new RetryPolicy(
+                    Math.max(1, Integer.parseInt(parts[0])),
+                    Duration.ofMillis(Long.parseLong(parts[1])),
+                    parts.length > 2 ? Duration.ofMillis(Long.parseLong(parts[2])) : RetryPolicy.DEFAULT_MAX_BACKOFF
+            );
+        }
+
+        return new HookMetadata(
+                hookClass,
+                entry.id(),
+                entry.order(),
+                entry.async(),
+                entry.lazy(),
+                entry.evictable() < 0 ? null : Duration.ofMillis(entry.evictable()),
+                reloadable == null ? null : new ReloadPolicy(reloadable.equals("async"), entry.swap()),
+                List.copyOf(requirements),
+                entry.dependsOn(),
+                List.copyOf(awaits),
+                policy,
+                entry.onStart(),
+                entry.onStop()
+        );
+    }
+
+    private static HookMetadata resolve(Class<?> hookClass) {
+        Hook hook = hookClass.getAnnotation(Hook.class);
+        if (hook == null) throw new IllegalStateException(hookClass.getName() + " is not annotated with @Hook!");
+
+        List<Requirement> requirements = new ArrayList<>();
+        for (Require require : hookClass.getAnnotationsByType(Require.class)) {
+            requirements.add(new Requirement(require.type(), require.value()));
+        }
+        List<Trigger> awaits = new ArrayList<>();
+        for (Await await : hookClass.getAnnotationsByType(Await.class)) {
+            awaits.add(new Trigger(await.type(), await.value()));
+        }
+        DependsOn dependsOn = hookClass.getAnnotation(DependsOn.class);
+        Evictable evictable = hookClass.getAnnotation(Evictable.class);
+        Reloadable reloadable = hookClass.getAnnotation(Reloadable.class);
+        Retry retry = hookClass.getAnnotation(Retry.class);
+
+        return new HookMetadata(
+                hookClass,
+                hook.id(),
+                hook.order(),
+                hook.async(),
+                hookClass.isAnnotationPresent(Lazy.class),
+                evictable == null ? null : Duration.of(evictable.idleAfter(), evictable.unit().toChronoUnit()),
+                reloadable == null ? null : new ReloadPolicy(reloadable.async(), reloadable.swap()),
+                List.copyOf(requirements),
+                dependsOn == null ? List.of() : List.of(dependsOn.value()),
+                List.copyOf(awaits),
+                retry == null ? null : new RetryPolicy(
+                        Math.max(1, retry.maxAttempts()),
+                        Duration.of(retry.backoff(), retry.unit().toChronoUnit()),
+                        retry.maxBackoff() < 0
+                                ? RetryPolicy.DEFAULT_MAX_BACKOFF
+                                : Duration.of(retry.maxBackoff(), retry.unit().toChronoUnit())
+                ),
+                null,
+                null
+        );
+    }
+
+    /**
+     * The hooks constructor and lifecycle methods, resolved the first time they are needed.
+     *
+     * @throws IllegalStateException if the hook has no no-args constructor, its methods cannot be accessed
+     *                               or their signatures use a class that is missing at runtime.
+     */
+    private Lifecycle lifecycle() {
+        Lifecycle lifecycle = this.lifecycle;
+        if (lifecycle != null) return lifecycle;
+
+        // resolving twice at once is harmless, both resolve the same handles
+        lifecycle = Lifecycle.resolve(hookClass, id, startHint, stopHint);
+        this.lifecycle = lifecycle;
+        return lifecycle;
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) throws IllegalAccessException {
+        method.setAccessible(true);
+        return lookup.unreflect(method);
+    }
+
+    /**
+     * Create a new instance of the hook.
+     *
+     * @return the new instance.
+     */
+    Object construct() {
+        try {
+            return (Object) lifecycle().constructor().invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    /**
+     * Run the hooks {@link OnStart} method.
+     *
+     * @param hook the hook instance.
+     * @return false if the hook has no start method or its start method returned false.
+     */
+    boolean start(Object hook) {
+        MethodHandle start = lifecycle().start();
+        if (start == null) return false;
+        try {
+            Object response = (Object) start.invokeExact(hook);
+            return !(response instanceof Boolean load) || load;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    /**
+     * Run the hooks {@link OnStop} method, if it has one.
+     *
+     * @param hook the hook instance.
+     */
+    void stop(Object hook) {
+        MethodHandle stop = lifecycle().stop();
+        if (stop == null) return;
+        try {
+            stop.invokeExact(hook);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    Class<?> hookClass() {
+        return hookClass;
+    }
+
+    String id() {
+        return id;
+    }
+
+    HookOrder order() {
+        return order;
+    }
+
+    boolean async() {
+        return async;
+    }
+
+    boolean lazy() {
+        return lazy;
+    }
+
+    /**
+     * @return how long the hook can be idle before it is evicted, or null if it is not {@link Evictable}.
+     */
+    @Nullable Duration idleAfter() {
+        return idleAfter;
+    }
+
+    /**
+     * @return how the hook is reloaded, or null if it is not {@link Reloadable}.
+     */
+    @Nullable ReloadPolicy reloadable() {
+        return reloadable;
+    }
+
+    List<Requirement> requirements() {
+        return requirements;
+    }
+
+    List<String> dependsOn() {
+        return dependsOn;
+    }
+
+    List<Trigger> awaits() {
+        return awaits;
+    }
+
+    /**
+     * @return how the hook is retried when it fails to start, or null if it is not {@link Retry retried}.
+     */
+    @Nullable RetryPolicy retry() {
+        return retry;
+    }
+
+    /**
+     * @return the name of the {@link OnStart} method, or null if there is none or it can't be resolved.
+     */
+    @Nullable String startMethod() {
+        Lifecycle lifecycle = resolvable();
+        return lifecycle == null ? startHint : lifecycle.startMethod();
+    }
+
+    /**
+     * @return the name of the {@link OnStop} method, or null if there is none or it can't be resolved.
+     */
+    @Nullable String stopMethod() {
+        Lifecycle lifecycle = resolvable();
+        return lifecycle == null ? stopHint : lifecycle.stopMethod();
+    }
+
+    private @Nullable Lifecycle resolvable() {
+        try {
+            return lifecycle();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+
+    /**
+     * A single {@link Require} of a hook.
+     *
+     * @param type  the requirement type.
+     * @param value the value to check.
+     */
+    record Requirement(String type, String value) {
+    }
+
+    /**
+     * A single {@link Await} of a hook.
+     *
+     * @param type  the trigger type.
+     * @param value the plugin, hook or signal the trigger is for.
+     */
+    record Trigger(String type, String value) {
+    }
+
+    /**
+     * The resolved constructor and lifecycle methods of a hook.
+     *
+     * @param constructor the no-args constructor.
+     * @param startMethod the name of the {@link OnStart} method, or null if there is none.
+     * @param stopMethod  the name of the {@link OnStop} method, or null if there is none.
+     * @param start       the {@link OnStart} method, or null if there is none.
+     * @param stop        the {@link OnStop} method, or null if there is none.
+     */
+    private record Lifecycle(
+            MethodHandle constructor,
+            @Nullable String startMethod,
+            @Nullable String stopMethod,
+            @Nullable MethodHandle start,
+            @Nullable MethodHandle stop
+    ) {
+        static Lifecycle resolve(Class<?> hookClass, String id, @Nullable String startHint, @Nullable String stopHint) {
+            Method start = null;
+            Method stop = null;
+            try {
+                if (startHint != null || stopHint != null) {
+                    if (startHint != null) start = hookClass.getDeclaredMethod(startHint);
+                    if (stopHint != null) stop = hookClass.getDeclaredMethod(stopHint);
+                } else {
+                    for (Method method : hookClass.getDeclaredMethods()) {
+                        if (method.isAnnotationPresent(OnStart.class)) start = method;
+                        if (method.isAnnotationPresent(OnStop.class)) stop = method;
+                    }
+                }
+
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                Constructor<?> constructor = hookClass.getDeclaredConstructor();
+                constructor.setAccessible(true);
+
+                return new Lifecycle(
+                        lookup.unreflectConstructor(constructor).asType(CONSTRUCTOR),
+                        start == null ? null : start.getName(),
+                        stop == null ? null : stop.getName(),
+                        start == null ? null : unreflect(lookup, start).asType(START),
+                        stop == null ? null : unreflect(lookup, stop).asType(STOP)
+                );
+            } catch (NoSuchMethodException | IllegalAccessException | LinkageError e) {
+                throw new IllegalStateException("Failed to resolve the lifecycle of hook " + id + "!", e);
+            }
+        }
+    }
+
+    /**
+     * The {@link Reloadable} policy of a hook.
+     *
+     * @param async true if the hook is reloaded off the main thread.
+     * @param swap  true if a new instance is started before the old one is stopped.
+     */
+    record ReloadPolicy(boolean async, boolean swap) {
+    }
+
+    /**
+     * The {@link Retry} policy of a hook.
+     *
+     * @param maxAttempts how many times the hook is started before it is given up on, including the first.
+     * @param backoff     how long to wait before the first retry.
+     * @param maxBackoff  the longest a single retry waits.
+     */
+    record RetryPolicy(int maxAttempts, Duration backoff, Duration maxBackoff) {
+        static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,153 @@
+package info.preva1l.hooker;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A {@link HookerListener} that collects every measurement so they can be reported once startup is done.
+ *
+ * <pre>{@code
+ * HookMetrics metrics = new HookMetrics(true);
+ * Hooker.register(this, HookerOptions.builder("me.developer.myplugin.hooks").listener(metrics));
+ * // ...
+ * getLogger().info(metrics.report());
+ * }</pre>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+public final class HookMetrics implements HookerListener {
+    private final Queue<HookStageEvent> events = new ConcurrentLinkedQueue<>();
+    private final boolean jfr;
+    private volatile @Nullable HookScanEvent scan;
+
+    /**
+     * Create a metrics collector that does not emit JFR events.
+     */
+    public HookMetrics() {
+        this(false);
+    }
+
+    /**
+     * Create a metrics collector.
+     *
+     * @param jfr true to also emit a {@code info.preva1l.hooker.HookStage} JFR event for every measurement.
+     */
+    public HookMetrics(boolean jfr) {
+        this.jfr = jfr;
+    }
+
+    @Override
+    public void onStage(HookStageEvent event) {
+        events.add(event);
+        if (jfr) commit(event);
+    }
+
+    @Override
+    public void onScan(HookScanEvent event) {
+        scan = event;
+    }
+
+    /**
+     * @return how the hooks were found, or null if Hooker hasn't been registered with these metrics yet.
+     */
+    public @Nullable HookScanEvent scan() {
+        return scan;
+    }
+
+    /**
+     * @return every measurement collected so far, in the order they finished.
+     */
+    public List<HookStageEvent> events() {
+        return List.copyOf(events);
+    }
+
+    /**
+     * Get the total time spent on each hook.
+     * <p>
+     * Reloads are counted through the stop and start they are made of.
+     * </p>
+     *
+     * @return the total nanoseconds spent on each hook, slowest first.
+     */
+    public Map<String, Long> totals() {
+        Map<String, Long> totals = new HashMap<>();
+        for (HookStageEvent event : events) {
+            // a reload is reported alongside the stop and start it is made of
+            if (event.stage() == HookStage.RELOAD) continue;
+            totals.merge(event.hookId(), event.duration(), Long::sum);
+        }
+
+        List<Map.Entry<String, Long>> sorted = new ArrayList<>(totals.entrySet());
+        sorted.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        Map<String, Long> result = new LinkedHashMap<>();
+        sorted.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    /**
+     * Create a human-readable report of every hook, slowest first.
+     *
+     * @return the report.
+     */
+    public String report() {
+        Map<String, List<HookStageEvent>> byHook = new HashMap<>();
+        for (HookStageEvent event : events) {
+            byHook.computeIfAbsent(event.hookId(), key -> new ArrayList<>()).add(event);
+        }
+
+        StringBuilder report = new StringBuilder("Hook startup report:");
+        HookScanEvent scan = this.scan;
+        if (scan != null) {
+            report.append("\n  found ").append(scan.hooks()).append(" hooks from ")
+                    .append(scan.source().name().toLowerCase(Locale.ROOT).replace('_', ' '))
+                    .append(" in ").append(millis(scan.duration()));
+        }
+        totals().forEach((hook, total) -> {
+            report.append("\n  ").append(hook).append(": ").append(millis(total));
+            StringJoiner stages = new StringJoiner(", ", " (", ")");
+            for (HookStageEvent event : byHook.get(hook)) {
+                StringBuilder stage = new StringBuilder(event.stage().name().toLowerCase(Locale.ROOT))
+                        .append(' ')
+                        .append(millis(event.duration()));
+                if (event.allocatedBytes() >= 0) stage.append(' ').append(event.allocatedBytes() / 1024).append("KiB");
+                stage.append(" on ").append(event.thread());
+                if (event.outcome() != HookStageEvent.Outcome.SUCCESS) {
+                    stage.append(' ').append(event.outcome().name().toLowerCase(Locale.ROOT));
+                }
+                stages.add(stage);
+            }
+            report.append(stages);
+        });
+        return report.toString();
+    }
+
+    /**
+     * Forget every measurement collected so far.
+     */
+    public void clear() {
+        events.clear();
+        scan = null;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000D);
+    }
+
+    private static void commit(HookStageEvent event) {
+        HookStageJfrEvent jfrEvent = new HookStageJfrEvent();
+        if (!jfrEvent.isEnabled()) return;
+        jfrEvent.hook = event.hookId();
+        jfrEvent.stage = event.stage().name();
+        jfrEvent.executingThread = event.thread();
+        jfrEvent.stageStart = Instrumentation.epochMillis(event.start());
+        jfrEvent.stageEnd = Instrumentation.epochMillis(event.start() + event.duration());
+        jfrEvent.timeTaken = event.duration();
+        jfrEvent.allocated = event.allocatedBytes();
+        jfrEvent.outcome = event.outcome().name();
+        jfrEvent.commit();
+    }
+}
@@ -0,0 +1,274 @@
+package info.preva1l.hooker;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A {@link HookerListener} that records a timeline of every {@link HookSpan} and works out what decided how long
+ * each phase took.
+ *
+ * <pre>{@code
+ * HookProfiler profiler = new HookProfiler(true);
+ * Hooker.register(this, HookerOptions.builder("me.developer.myplugin.hooks").listener(profiler));
+ * // ...
+ * getLogger().info(profiler.report());
+ * profiler.writeChromeTrace(getDataFolder().toPath().resolve("hooks.trace.json"));
+ * }</pre>
+ * <p>
+ * The critical path of a phase is the chain of spans that ended last: the slowest hook's start, back through its
+ * hand-off to whichever of its requirements or dependencies it was waiting for last, and so on.
+ * Making any span on it faster (or moving the hook off it, by making it async) makes the phase faster.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+public final class HookProfiler implements HookerListener {
+    private static final List<HookSpan.Kind> CHAIN = List.of(
+            HookSpan.Kind.AWAIT,
+            HookSpan.Kind.REQUIREMENTS,
+            HookSpan.Kind.HANDOFF,
+            HookSpan.Kind.CONSTRUCT,
+            HookSpan.Kind.START
+    );
+
+    private final Queue<HookSpan> spans = new ConcurrentLinkedQueue<>();
+    private final boolean jfr;
+
+    /**
+     * Create a profiler that does not emit JFR events.
+     */
+    public HookProfiler() {
+        this(false);
+    }
+
+    /**
+     * Create a profiler.
+     *
+     * @param jfr true to also emit a {@code info.preva1l.hooker.HookSpan} JFR event as each span finishes.
+     */
+    public HookProfiler(boolean jfr) {
+        this.jfr = jfr;
+    }
+
+    @Override
+    public void onSpan(HookSpan span) {
+        spans.add(span);
+        if (jfr) commit(span);
+    }
+
+    /**
+     * @return every span recorded so far, in the order they finished.
+     */
+    public List<HookSpan> spans() {
+        return List.copyOf(spans);
+    }
+
+    /**
+     * Work out the critical path of a phase.
+     *
+     * @param order the phase.
+     * @return the spans on the critical path in the order they happened, empty if the phase hasn't finished.
+     */
+    public List<HookSpan> criticalPath(HookOrder order) {
+        List<HookSpan> spans = spans();
+        HookSpan phase = null;
+        for (HookSpan span : spans) {
+            if (span.kind() == HookSpan.Kind.PHASE && span.order() == order) phase = span;
+        }
+        if (phase == null) return List.of();
+
+        // spans outside of the phase are reloads or on demand starts
+        Map<String, Map<HookSpan.Kind, HookSpan>> hooks = new HashMap<>();
+        HookSpan last = null;
+        for (HookSpan span : spans) {
+            if (span.hookId() == null || span.order() != order) continue;
+            if (span.start() < phase.start() || span.end() > phase.end()) continue;
+            hooks.computeIfAbsent(span.hookId(), key -> new EnumMap<>(HookSpan.Kind.class)).put(span.kind(), span);
+            if (last == null || span.end() > last.end()) last = span;
+        }
+
+        Deque<HookSpan> path = new ArrayDeque<>();
+        HookSpan current = last;
+        while (current != null && path.size() <= spans.size()) {
+            path.addFirst(current);
+            current = previous(current, hooks);
+        }
+        return List.copyOf(path);
+    }
+
+    /**
+     * Export every span in the Chrome Trace Event format, to open in {@code chrome://tracing} or Perfetto.
+     * <p>
+     * Each hook gets its own track, with the thread each span ran on in its arguments.
+     * </p>
+     *
+     * @return the trace as json.
+     */
+    public String chromeTrace() {
+        List<HookSpan> spans = new ArrayList<>(spans());
+        spans.sort(Comparator.comparingLong(HookSpan::start));
+        long origin = spans.isEmpty() ? 0 : spans.get(0).start();
+
+        Set<HookSpan> critical = new HashSet<>();
+        for (HookOrder order : HookOrder.values()) critical.addAll(criticalPath(order));
+
+        Map<String, Integer> tracks = new LinkedHashMap<>();
+        tracks.put("phases", 0);
+        tracks.put("late delay", 1);
+        StringJoiner events = new StringJoiner(",\n", "{\"traceEvents\":[\n", "\n],\"displayTimeUnit\":\"ms\"}");
+        events.add("{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":1,\"args\":{\"name\":\"Hooker\"}}");
+        for (HookSpan span : spans) {
+            String track = span.hookId() != null ? span.hookId()
+                    : span.kind() == HookSpan.Kind.LATE_DELAY ? "late delay" : "phases";
+            Integer tid = tracks.get(track);
+            if (tid == null) {
+                tid = tracks.size();
+                tracks.put(track, tid);
+            }
+
+            StringBuilder event = new StringBuilder("{\"name\":").append(json(name(span)))
+                    .append(",\"cat\":").append(json(span.kind().name()))
+                    .append(",\"ph\":\"X\",\"pid\":1,\"tid\":").append(tid)
+                    .append(",\"ts\":").append(micros(span.start() - origin))
+                    .append(",\"dur\":").append(micros(span.duration()))
+                    .append(",\"args\":{\"thread\":").append(json(span.thread()));
+            if (span.order() != null) event.append(",\"phase\":").append(json(span.order().name()));
+            if (!span.after().isEmpty()) {
+                StringJoiner after = new StringJoiner(",", "[", "]");
+                span.after().forEach(id -> after.add(json(id)));
+                event.append(",\"after\":").append(after);
+            }
+            if (critical.contains(span)) event.append(",\"critical\":true");
+            events.add(event.append("}}"));
+        }
+        tracks.forEach((track, tid) -> events.add("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + tid
+                + ",\"args\":{\"name\":" + json(track) + "}}"));
+        return events.toString();
+    }
+
+    /**
+     * Write the {@link #chromeTrace() chrome trace} to a file.
+     *
+     * @param file the file to write to, it is replaced if it exists.
+     * @throws IOException if the file could not be written.
+     */
+    public void writeChromeTrace(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Files.writeString(file, chromeTrace());
+    }
+
+    /**
+     * Create a human-readable report of how long each phase took and its critical path.
+     *
+     * @return the report.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("Hook startup profile:");
+        for (HookSpan span : spans()) {
+            if (span.kind() == HookSpan.Kind.SCAN) report.append("\n  scan ").append(millis(span.duration()));
+        }
+        for (HookSpan span : spans()) {
+            if (span.kind() != HookSpan.Kind.PHASE || span.order() == null) continue;
+            report.append("\n  ").append(span.order().name().toLowerCase(Locale.ROOT))
+                    .append(' ').append(millis(span.duration()));
+            StringJoiner path = new StringJoiner(" > ", ", critical path: ", "").setEmptyValue("");
+            for (HookSpan step : criticalPath(span.order())) {
+                path.add(name(step) + " " + millis(step.duration()));
+            }
+            report.append(path);
+        }
+        return report.toString();
+    }
+
+    /**
+     * Forget every span recorded so far.
+     */
+    public void clear() {
+        spans.clear();
+    }
+
+    /**
+     * The span that the given span was waiting on, or null if it's the start of the path.
+     */
+    private static @Nullable HookSpan previous(HookSpan span, Map<String, Map<HookSpan.Kind, HookSpan>> hooks) {
+        Map<HookSpan.Kind, HookSpan> hook = hooks.get(span.hookId());
+        int index = CHAIN.indexOf(span.kind());
+        if (span.kind() == HookSpan.Kind.HANDOFF) {
+            // a hook is ready once its requirements and every dependency are done, the last of them held it up
+            HookSpan latest = null;
+            for (int i = index - 1; i >= 0 && latest == null; i--) {
+                latest = hook.get(CHAIN.get(i));
+            }
+            for (String dependency : span.after()) {
+                Map<HookSpan.Kind, HookSpan> spans = hooks.get(dependency);
+                HookSpan started = spans == null ? null : spans.get(HookSpan.Kind.START);
+                if (started != null && (latest == null || started.end() > latest.end())) latest = started;
+            }
+            return latest;
+        }
+
+        for (int i = index - 1; i >= 0; i--) {
+            HookSpan previous = hook.get(CHAIN.get(i));
+            if (previous != null) return previous;
+        }
+        return null;
+    }
+
+    private static void commit(HookSpan span) {
+        HookSpanJfrEvent event = new HookSpanJfrEvent();
+        if (!event.isEnabled()) return;
+        event.kind = span.kind().name();
+        event.hook = span.hookId();
+        event.phase = span.order() == null ? null : span.order().name();
+        event.executingThread = span.thread();
+        event.spanStart = Instrumentation.epochMillis(span.start());
+        event.spanEnd = Instrumentation.epochMillis(span.end());
+        event.timeTaken = span.duration();
+        event.after = String.join(",", span.after());
+        event.commit();
+    }
+
+    private static String name(HookSpan span) {
+        String kind = span.kind().name().toLowerCase(Locale.ROOT).replace('_', ' ');
+        if (span.hookId() != null) return span.hookId() + " " + kind;
+        return span.order() == null ? kind : span.order().name().toLowerCase(Locale.ROOT) + " " + kind;
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000D);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000D);
+    }
+
+    private static String json(String value) {
+        StringBuilder json = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"').toString();
+    }
+}
@@ -0,0 +1,181 @@
+package info.preva1l.hooker;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * The {@link HookHandle}s of every hook, keyed by their class.
+ * <p>
+ * Lookups are a single lock free hash lookup followed by a volatile read of the handle,
+ * so reading a hook never allocates. It is safe to read from any thread while hooks are being loaded, reloaded or
+ * disabled.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class HookRegistry {
+    private final Map<Class<?>, HookHandle<?>> handles = new ConcurrentHashMap<>();
+    private final Logger logger;
+
+    HookRegistry(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Get the handle for a hook, creating it if it doesn't exist yet.
+     *
+     * @param hookClass the hook class.
+     * @param <T>       the hook type.
+     * @return the handle.
+     */
+    @SuppressWarnings("unchecked")
+    <T> HookHandle<T> handle(Class<T> hookClass) {
+        HookHandle<?> handle = handles.get(hookClass);
+        if (handle != null) return (HookHandle<T>) handle;
+        return (HookHandle<T>) handles.computeIfAbsent(hookClass, key -> new HookHandle<>(hookClass, logger));
+    }
+
+    /**
+     * Get a loaded hook.
+     *
+     * @param hookClass the hook class.
+     * @param <T>       the hook type.
+     * @return the hook if loaded, empty optional if not.
+     */
+    @SuppressWarnings("unchecked")
+    <T> Optional<T> get(Class<T> hookClass) {
+        HookHandle<?> handle = handles.get(hookClass);
+        return handle == null ? Optional.empty() : (Optional<T>) handle.optional();
+    }
+
+    /**
+     * Get a loaded hook instance.
+     *
+     * @param hookClass the hook class.
+     * @return the hook instance, or null if it isn't loaded.
+     */
+    @Nullable Object instance(Class<?> hookClass) {
+        HookHandle<?> handle = handles.get(hookClass);
+        return handle == null ? null : handle.current();
+    }
+
+    /**
+     * Check if a hook is loaded, or is lazy and will be loaded when it's first requested.
+     *
+     * @param hookClass the hook class.
+     * @return true if the hook is available.
+     */
+    boolean contains(Class<?> hookClass) {
+        HookHandle<?> handle = handles.get(hookClass);
+        return handle != null && (handle.isLoaded() || handle.isDeferred());
+    }
+
+    /**
+     * Publish a loaded hook.
+     *
+     * @param hookClass the hook class.
+     * @param hook      the hook instance.
+     */
+    void put(Class<?> hookClass, Object hook) {
+        handle(hookClass).loaded(hook);
+    }
+
+    /**
+     * Publish a lazy hook that will be started when it's first requested.
+     *
+     * @param hookClass the hook class.
+     * @param start     starts the hook and publishes it with {@link #put(Class, Object)}, it must not throw.
+     * @param runner    runs the start where the hook has to be started, or null to start it on the requesting thread.
+     */
+    void defer(Class<?> hookClass, Runnable start, @Nullable Consumer<Runnable> runner) {
+        handle(hookClass).defer(start, runner);
+    }
+
+    /**
+     * Stop a lazy hook from being started, waiting for it if it is being started right now.
+     *
+     * @param hookClass the hook class.
+     */
+    void cancel(Class<?> hookClass) {
+        HookHandle<?> handle = handles.get(hookClass);
+        if (handle != null) handle.cancel();
+    }
+
+    /**
+     * Start tracking when an evictable hook is used.
+     *
+     * @param hookClass the hook class.
+     */
+    void track(Class<?> hookClass) {
+        handle(hookClass).track();
+    }
+
+    /**
+     * Check if an evictable hook has been idle for long enough to evict, only the sweeper may call this.
+     *
+     * @param hookClass the hook class.
+     * @param now       the current {@link System#nanoTime()}.
+     * @param idleAfter how long the hook can be idle for, in nanoseconds.
+     * @return true if the hook should be evicted.
+     */
+    boolean idle(Class<?> hookClass, long now, long idleAfter) {
+        HookHandle<?> handle = handles.get(hookClass);
+        return handle != null && handle.idle(now, idleAfter);
+    }
+
+    /**
+     * Evict a hook if it still hasn't been used.
+     *
+     * @param hookClass the hook class.
+     * @param stop      stops the evicted instance.
+     * @param restart   starts the hook again and publishes it with {@link #put(Class, Object)}, it must not throw.
+     * @param runner    runs the restart, or null to restart it on the requesting thread.
+     * @return true if the hook was evicted.
+     */
+    @SuppressWarnings("unchecked")
+    boolean evict(Class<?> hookClass, Consumer<Object> stop, Runnable restart, @Nullable Consumer<Runnable> runner) {
+        HookHandle<Object> handle = (HookHandle<Object>) handles.get(hookClass);
+        return handle != null && handle.evict(stop, restart, runner);
+    }
+
+    /**
+     * Publish a reloaded hook.
+     *
+     * @param hookClass the hook class.
+     * @param hook      the hook instance after the reload.
+     */
+    void reloaded(Class<?> hookClass, Object hook) {
+        handle(hookClass).reloaded(hook);
+    }
+
+    /**
+     * Remove a hook.
+     *
+     * @param hookClass the hook class.
+     */
+    void remove(Class<?> hookClass) {
+        HookHandle<?> handle = handles.get(hookClass);
+        if (handle != null) handle.unloaded();
+    }
+
+    /**
+     * @return a snapshot of every loaded hook instance.
+     */
+    List<Object> values() {
+        List<Object> values = new ArrayList<>(handles.size());
+        for (HookHandle<?> handle : handles.values()) {
+            Object hook = handle.current();
+            if (hook != null) values.add(hook);
+        }
+        return values;
+    }
+}
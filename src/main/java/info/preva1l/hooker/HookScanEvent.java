@@ -0,0 +1,36 @@
+package info.preva1l.hooker;
+
+/**
+ * A measurement of how Hooker found the hooks when it was registered.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ *
+ * @param source   where the hooks came from.
+ * @param hooks    how many hooks were found.
+ * @param duration how long finding them took in nanoseconds.
+ */
+public record HookScanEvent(Source source, int hooks, long duration) {
+    /**
+     * Where the hooks came from.
+     */
+    public enum Source {
+        /**
+         * The compile time hook index.
+         */
+        INDEX,
+        /**
+         * The startup cache, the jar had not changed since it was written.
+         */
+        CACHE_HIT,
+        /**
+         * A classpath scan, the startup cache was missing or out of date and has been rewritten.
+         */
+        CACHE_MISS,
+        /**
+         * A classpath scan, no startup cache was configured or the hooks are not in a jar.
+         */
+        SCAN
+    }
+}
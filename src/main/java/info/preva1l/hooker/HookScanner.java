@@ -0,0 +1,220 @@
+package info.preva1l.hooker;
+
+import info.preva1l.hooker.annotation.Hook;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Finds the hooks in a set of packages, from the {@link HookIndex} or {@link HookCache} when there is one
+ * or by scanning the classpath.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class HookScanner {
+    private HookScanner() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Find every hook in the packages.
+     * <p>
+     * Hooks are read from the hook index if there is one, then the startup cache if one is configured,
+     * and only scanned for if neither can be used.
+     * </p>
+     *
+     * @param loader          the class loader to find hooks with.
+     * @param options         the options with the packages to find hooks in, and the startup cache.
+     * @param instrumentation reports where the hooks came from.
+     * @return the hooks.
+     */
+    static List<HookMetadata> scan(ClassLoader loader, HookerOptions options, Instrumentation instrumentation) {
+        long start = System.nanoTime();
+        List<HookIndex.Entry> index;
+        try {
+            index = HookIndex.read(loader);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        instrumentation.span(HookSpan.Kind.INDEX_READ, null, start);
+
+        if (index != null) {
+            List<HookMetadata> hooks = indexedHooks(loader, index, options.packages, options.logger);
+            instrumentation.scanned(HookScanEvent.Source.INDEX, hooks.size(), start);
+            return hooks;
+        }
+
+        Locations locations = locate(loader, options.packages);
+        String key = cacheKey(options, locations);
+        if (key != null) {
+            List<HookIndex.Entry> cached = readCache(options, key);
+            if (cached != null) {
+                List<HookMetadata> hooks = indexedHooks(loader, cached, options.packages, options.logger);
+                instrumentation.scanned(HookScanEvent.Source.CACHE_HIT, hooks.size(), start);
+                return hooks;
+            }
+        }
+
+        List<HookMetadata> hooks = new ArrayList<>();
+        scanClasspath(loader, locations, ForkJoinPool.commonPool()).forEach(hook -> hooks.add(HookMetadata.of(hook)));
+        if (key != null) writeCache(options, key, hooks);
+        instrumentation.scanned(key == null ? HookScanEvent.Source.SCAN : HookScanEvent.Source.CACHE_MISS, hooks.size(), start);
+        return hooks;
+    }
+
+    /**
+     * Scan the classpath for hooks, ignoring any index.
+     * <p>
+     * Each jar or directory the packages resolve to is read once, and the class files are checked for the
+     * {@link Hook} annotation without loading them, in parallel on the common pool.
+     * Only the hooks themselves are loaded.
+     * </p>
+     *
+     * @param loader   the class loader to scan.
+     * @param packages the packages to scan, including sub packages.
+     * @return the hook classes.
+     */
+    static Collection<Class<?>> scanClasspath(ClassLoader loader, String[] packages) {
+        return scanClasspath(loader, packages, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Scan the classpath for hooks, ignoring any index.
+     *
+     * @param loader   the class loader to scan.
+     * @param packages the packages to scan, including sub packages.
+     * @param pool     the pool the class files are checked on.
+     * @return the hook classes, in class name order.
+     */
+    static Collection<Class<?>> scanClasspath(ClassLoader loader, String[] packages, ForkJoinPool pool) {
+        return scanClasspath(loader, locate(loader, packages), pool);
+    }
+
+    private static Collection<Class<?>> scanClasspath(ClassLoader loader, Locations locations, ForkJoinPool pool) {
+        if (loader == null) return List.of();
+        try {
+            return loadHooks(loader, ParallelScan.run(pool, locations.jars(), locations.paths(), locations.directories()));
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private static Locations locate(ClassLoader loader, String[] packages) {
+        List<String> paths = new ArrayList<>(packages.length);
+        Set<Path> jars = new LinkedHashSet<>();
+        Map<Path, String> directories = new LinkedHashMap<>();
+        if (loader == null) return new Locations(packages, paths, jars, directories);
+
+        try {
+            for (String pkg : packages) {
+                String path = pkg.replace('.', '/');
+                paths.add(path + "/");
+
+                Enumeration<URL> resources = loader.getResources(path);
+                while (resources.hasMoreElements()) {
+                    URL resource = resources.nextElement();
+                    switch (resource.getProtocol()) {
+                        case "jar" -> jars.add(jarPath(resource));
+                        case "file" -> directories.putIfAbsent(Path.of(resource.toURI()), path);
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        } catch (URISyntaxException ex) {
+            throw new RuntimeException("Failed to resolve a package location", ex);
+        }
+        return new Locations(packages, paths, jars, directories);
+    }
+
+    private static @Nullable String cacheKey(HookerOptions options, Locations locations) {
+        if (options.cache == null) return null;
+        try {
+            return HookCache.key(locations.packages(), locations.jars(), locations.directories());
+        } catch (IOException ex) {
+            options.logger.log(Level.WARNING, "Failed to fingerprint the plugin jar, the startup cache will not be used!", ex);
+            return null;
+        }
+    }
+
+    private static @Nullable List<HookIndex.Entry> readCache(HookerOptions options, String key) {
+        try {
+            return HookCache.read(options.cache, key);
+        } catch (IOException | RuntimeException ex) {
+            options.logger.log(Level.WARNING, "Failed to read the startup cache, scanning for hooks instead!", ex);
+            return null;
+        }
+    }
+
+    private static void writeCache(HookerOptions options, String key, List<HookMetadata> hooks) {
+        try {
+            HookCache.write(options.cache, key, hooks);
+        } catch (IOException ex) {
+            options.logger.log(Level.WARNING, "Failed to write the startup cache!", ex);
+        }
+    }
+
+    private static Collection<Class<?>> loadHooks(ClassLoader loader, List<String> names) {
+        List<Class<?>> hooks = new ArrayList<>(names.size());
+        for (String name : names) {
+            try {
+                Class<?> clazz = loader.loadClass(name);
+                // the loaded class is checked too, the class file may not be the one the loader resolves
+                if (clazz.isAnnotationPresent(Hook.class)) hooks.add(clazz);
+            } catch (ClassNotFoundException | NoClassDefFoundError ignored) {
+            }
+        }
+        return hooks;
+    }
+
+    private static Path jarPath(URL resource) throws IOException, URISyntaxException {
+        return Path.of(((JarURLConnection) resource.openConnection()).getJarFileURL().toURI());
+    }
+
+    private static List<HookMetadata> indexedHooks(
+            ClassLoader loader,
+            List<HookIndex.Entry> index,
+            String[] packages,
+            Logger logger
+    ) {
+        List<HookMetadata> hooks = new ArrayList<>();
+        for (HookIndex.Entry entry : index) {
+            if (!inPackages(entry.className(), packages)) continue;
+            try {
+                Class<?> hook = Class.forName(entry.className(), false, loader);
+                hooks.add(HookMetadata.of(hook, entry));
+            } catch (ClassNotFoundException | NoClassDefFoundError ex) {
+                logger.warning("Indexed hook " + entry.id() + " could not be loaded: " + ex.getMessage());
+            }
+        }
+        return hooks;
+    }
+
+    private static boolean inPackages(String className, String[] packages) {
+        for (String pkg : packages) {
+            if (className.startsWith(pkg + ".")) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Where a set of packages resolved to.
+     *
+     * @param packages    the packages.
+     * @param paths       the package paths, each ending with a {@code /}.
+     * @param jars        the jars the packages are in.
+     * @param directories the directories the packages are in, with the package path of each.
+     */
+    private record Locations(String[] packages, List<String> paths, Set<Path> jars, Map<Path, String> directories) {
+    }
+}
@@ -0,0 +1,68 @@
+package info.preva1l.hooker;
+
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Where hooker runs hook lifecycle work, see {@link HookerOptions.Builder#scheduler(HookScheduler)}.
+ * <p>
+ * {@link #of(Plugin)} picks the right scheduler for the server, on Folia sync work runs on the global region
+ * and async work on the async scheduler, everywhere else the bukkit scheduler is used.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+public interface HookScheduler {
+    /**
+     * Run a task on the main thread, or the global region on Folia.
+     *
+     * @param task the task.
+     */
+    void runSync(Runnable task);
+
+    /**
+     * Run a task off the main thread.
+     *
+     * @param task the task.
+     */
+    void runAsync(Runnable task);
+
+    /**
+     * Run a task on the main thread, or the global region on Folia, after a delay.
+     *
+     * @param task  the task.
+     * @param ticks how many ticks to wait.
+     */
+    void runLater(Runnable task, long ticks);
+
+    /**
+     * Check if the current thread is where {@link #runSync(Runnable)} runs tasks, so sync work can run straight away.
+     *
+     * @return true if the current thread is the main thread, or the global region on Folia.
+     */
+    boolean isSyncThread();
+
+    /**
+     * Get the scheduler for the server the plugin is running on.
+     *
+     * @param plugin the plugin tasks are scheduled for.
+     * @return the Folia scheduler on Folia, otherwise the bukkit scheduler.
+     */
+    static HookScheduler of(Plugin plugin) {
+        return FoliaHookScheduler.isSupported() ? new FoliaHookScheduler(plugin) : new BukkitHookScheduler(plugin);
+    }
+
+    /**
+     * Get a scheduler that runs on ordinary executors, for tests or running hooker outside a server.
+     *
+     * @param sync  the executor standing in for the main thread.
+     * @param async the executor async tasks run on.
+     * @return the scheduler, a tick is 50 milliseconds.
+     */
+    static HookScheduler executor(Executor sync, Executor async) {
+        return new ExecutorHookScheduler(sync, async);
+    }
+}
@@ -0,0 +1,84 @@
+package info.preva1l.hooker;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A span of time Hooker spent finding or loading hooks, reported to {@link HookerListener#onSpan(HookSpan)}.
+ * <p>
+ * Every hook that loads is made of the same chain of spans, {@link Kind#AWAIT}, {@link Kind#REQUIREMENTS},
+ * {@link Kind#HANDOFF}, {@link Kind#CONSTRUCT} and {@link Kind#START}, see {@link HookProfiler}.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ *
+ * @param kind     what was happening.
+ * @param hookId   the hook the span belongs to, or null if it isn't for a single hook.
+ * @param order    the phase the span belongs to, or null for spans before the first phase.
+ * @param thread   the name of the thread the span finished on.
+ * @param start    when the span started, in {@link System#nanoTime()}.
+ * @param duration how long the span took in nanoseconds.
+ * @param after    the ids of the hooks a {@link Kind#HANDOFF} waited for, empty for every other kind.
+ */
+public record HookSpan(
+        Kind kind,
+        @Nullable String hookId,
+        @Nullable HookOrder order,
+        String thread,
+        long start,
+        long duration,
+        List<String> after
+) {
+    /**
+     * @return when the span ended, in {@link System#nanoTime()}.
+     */
+    public long end() {
+        return start + duration;
+    }
+
+    /**
+     * What a span was spent on.
+     */
+    public enum Kind {
+        /**
+         * Finding the hooks, from the index, the startup cache or the classpath.
+         */
+        SCAN,
+        /**
+         * Reading the compile time hook index.
+         */
+        INDEX_READ,
+        /**
+         * A whole phase, from the first hook's requirements to the last hook finishing.
+         */
+        PHASE,
+        /**
+         * The delay before late hooks without triggers are started.
+         */
+        LATE_DELAY,
+        /**
+         * A hook waiting for its {@link info.preva1l.hooker.annotation.Await} triggers, or the late delay.
+         */
+        AWAIT,
+        /**
+         * Checking a hook's {@link info.preva1l.hooker.annotation.Require}ments.
+         */
+        REQUIREMENTS,
+        /**
+         * From a hook being ready to start, its requirements met and dependencies loaded,
+         * to it starting on its runner.
+         */
+        HANDOFF,
+        /**
+         * Creating the hook instance.
+         */
+        CONSTRUCT,
+        /**
+         * Running the hook's {@link info.preva1l.hooker.annotation.OnStart} method.
+         */
+        START
+    }
+}
@@ -0,0 +1,45 @@
+package info.preva1l.hooker;
+
+import jdk.jfr.*;
+
+/**
+ * The JFR event {@link HookProfiler} records for every {@link HookSpan}.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Name("info.preva1l.hooker.HookSpan")
+@Label("Hook Span")
+@Category("Hooker")
+@Description("A span of time spent finding or loading hooks")
+@StackTrace(false)
+final class HookSpanJfrEvent extends Event {
+    @Label("Kind")
+    String kind;
+
+    @Label("Hook")
+    String hook;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Thread")
+    String executingThread;
+
+    // events are committed once the span has finished, so the span's own timing is recorded in fields
+    @Label("Span Start")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long spanStart;
+
+    @Label("Span End")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long spanEnd;
+
+    @Label("Time Taken")
+    @Timespan(Timespan.NANOSECONDS)
+    long timeTaken;
+
+    @Label("Waited For")
+    String after;
+}
@@ -0,0 +1,31 @@
+package info.preva1l.hooker;
+
+/**
+ * A step of a hook's lifecycle that is reported to {@link HookerListener}s.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+public enum HookStage {
+    /**
+     * Checking the hook's {@link info.preva1l.hooker.annotation.Require}ments.
+     */
+    REQUIREMENTS,
+    /**
+     * Creating the hook instance.
+     */
+    CONSTRUCT,
+    /**
+     * Running the hook's {@link info.preva1l.hooker.annotation.OnStart} method.
+     */
+    START,
+    /**
+     * Running the hook's {@link info.preva1l.hooker.annotation.OnStop} method.
+     */
+    STOP,
+    /**
+     * Reloading the hook, this includes the stop and start of the reload.
+     */
+    RELOAD
+}
@@ -0,0 +1,49 @@
+package info.preva1l.hooker;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A measurement of one {@link HookStage} of a hook.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ *
+ * @param hookId         the hook's id.
+ * @param stage          the stage that was measured.
+ * @param thread         the name of the thread the stage finished on.
+ * @param start          when the stage started, in {@link System#nanoTime()}.
+ * @param duration       how long the stage took in nanoseconds.
+ * @param allocatedBytes how many bytes the thread allocated during the stage, or -1 if it could not be measured.
+ * @param outcome        how the stage ended.
+ * @param error          the exception the stage threw, if it failed.
+ */
+public record HookStageEvent(
+        String hookId,
+        HookStage stage,
+        String thread,
+        long start,
+        long duration,
+        long allocatedBytes,
+        Outcome outcome,
+        @Nullable Throwable error
+) {
+    /**
+     * How a stage ended.
+     */
+    public enum Outcome {
+        /**
+         * The stage completed.
+         */
+        SUCCESS,
+        /**
+         * The stage completed but the hook will not be loaded, for example a requirement was not met
+         * or {@code @OnStart} returned false.
+         */
+        SKIPPED,
+        /**
+         * The stage threw an exception.
+         */
+        FAILED
+    }
+}
@@ -0,0 +1,46 @@
+package info.preva1l.hooker;
+
+import jdk.jfr.*;
+
+/**
+ * The JFR event {@link HookMetrics} records for every {@link HookStageEvent}.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Name("info.preva1l.hooker.HookStage")
+@Label("Hook Stage")
+@Category("Hooker")
+@Description("A step of a hook's lifecycle")
+@StackTrace(false)
+final class HookStageJfrEvent extends Event {
+    @Label("Hook")
+    String hook;
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Thread")
+    String executingThread;
+
+    // events are committed once the stage has finished, so the stage's own timing is recorded in fields
+    @Label("Stage Start")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long stageStart;
+
+    @Label("Stage End")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long stageEnd;
+
+    @Label("Time Taken")
+    @Timespan(Timespan.NANOSECONDS)
+    long timeTaken;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,53 @@
+package info.preva1l.hooker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link info.preva1l.hooker.annotation.Await} triggers of a runtime, and whether each has fired.
+ * <p>
+ * A trigger that fires before anything awaits it stays fired, so awaiting it later completes straight away.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class HookTriggers {
+    private final Map<HookMetadata.Trigger, CompletableFuture<Void>> triggers = new ConcurrentHashMap<>();
+
+    /**
+     * Wait for a trigger.
+     *
+     * @param trigger the trigger.
+     * @return a future that completes when the trigger fires.
+     */
+    CompletableFuture<Void> await(HookMetadata.Trigger trigger) {
+        return triggers.computeIfAbsent(trigger, ignored -> new CompletableFuture<>());
+    }
+
+    /**
+     * Fire a trigger, completing everything waiting for it.
+     *
+     * @param type  the trigger type.
+     * @param value the plugin, hook or signal the trigger is for.
+     */
+    void fire(String type, String value) {
+        await(new HookMetadata.Trigger(type, value)).complete(null);
+    }
+
+    /**
+     * @param awaits the triggers.
+     * @return the triggers that haven't fired yet.
+     */
+    List<HookMetadata.Trigger> pending(List<HookMetadata.Trigger> awaits) {
+        List<HookMetadata.Trigger> pending = new ArrayList<>();
+        for (HookMetadata.Trigger trigger : awaits) {
+            if (!await(trigger).isDone()) pending.add(trigger);
+        }
+        return pending;
+    }
+}
@@ -1,19 +1,13 @@
 package info.preva1l.hooker;
 
 import info.preva1l.hooker.annotation.*;
-import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.io.File;
-import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.net.URL;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 
 /**
  * Created on 9/03/2025
@@ -22,26 +16,13 @@ import java.util.jar.JarFile;
  */
 @SuppressWarnings("unused")
 public final class Hooker {
-    private static Hooker instance;
+    private static final Object PENDING = new Object();
+    private static final Map<ClassLoader, Object> RUNTIMES = new ConcurrentHashMap<>();
 
-    private final RequirementRegistry requirementRegistry;
-    private final HookerOptions options;
+    private static HookerRuntime instance;
 
-    private final List<Class<?>> onLoadHooks = new ArrayList<>();
-    private final List<Class<?>> onEnableHooks = new ArrayList<>();
-    private final List<Class<?>> lateHooks = new ArrayList<>();
-
-    private final Map<Class<?>, Object> loadedHooks = new HashMap<>();
-
-    private Hooker(Class<?> clazz, HookerOptions options) {
-        this.requirementRegistry = new RequirementRegistry();
-        this.options = options;
-
-        scanForHooks(clazz.getClassLoader());
-
-        if (options.loadNow) {
-            load();
-        }
+    private Hooker() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
     }
 
     /**
@@ -56,7 +37,7 @@ public final class Hooker {
     public static void register(Class<?> clazz, HookerOptions options) {
         if (instance != null) throw new IllegalStateException("Hooker is already registered!");
 
-        instance = new Hooker(clazz, options);
+        instance = create(clazz, options);
     }
 
     /**
@@ -71,10 +52,9 @@ public final class Hooker {
     public static void register(Class<?> clazz, String... packages) {
         if (instance != null) throw new IllegalStateException("Hooker is already registered!");
 
-        instance = new Hooker(clazz, new HookerOptions(packages));
+        instance = create(clazz, new HookerOptions(packages));
     }
 
-
     /**
      * Register hooker for your plugin.
      * <p>
@@ -86,19 +66,89 @@ public final class Hooker {
      */
     // todo: add a module for this specifically so that we can have hooker as an independent woman once and forall
     public static void register(JavaPlugin plugin, String... packages) {
+        register(plugin, HookerOptions.builder(packages));
+    }
+
+    /**
+     * Register hooker for your plugin.
+     * <p>
+     * This must be called before you want any hooks loaded (at the top of JavaPlugin#onLoad()
+     * Anything not set on the builder uses the plugin's logger and {@link HookScheduler#of(org.bukkit.plugin.Plugin)}.
+     * </p>
+     *
+     * @param plugin  your plugin instance
+     * @param options what options hooker will use
+     */
+    public static void register(JavaPlugin plugin, HookerOptions.Builder options) {
         if (instance != null) throw new IllegalStateException("Hooker is already registered!");
 
-        instance = new Hooker(
-                plugin.getClass(),
-                new HookerOptions(
-                        plugin.getLogger(),
-                        false,
-                        runnable -> Bukkit.getScheduler().runTaskAsynchronously(plugin, runnable),
-                        runnable -> Bukkit.getScheduler().runTask(plugin, runnable),
-                        runnable -> Bukkit.getScheduler().runTaskLater(plugin, runnable,60L),
-                        packages
-                )
-        );
+        instance = create(plugin, options);
+    }
+
+    /**
+     * Create a runtime for your plugin, instead of registering the shared static one.
+     * <p>
+     * Use this when several plugins share one copy of hooker, each plugin gets its own runtime
+     * and can only see its own hooks. Call {@link HookerRuntime#load()}, {@link HookerRuntime#enable()} and
+     * {@link HookerRuntime#disable()} on the runtime from your plugin's lifecycle methods.
+     * Anything not set on the builder uses the plugin's logger and {@link HookScheduler#of(org.bukkit.plugin.Plugin)}.
+     * </p>
+     *
+     * @param plugin  your plugin instance
+     * @param options what options hooker will use
+     * @return the runtime
+     * @throws IllegalStateException if the plugin already has a runtime that hasn't been disabled.
+     */
+    public static HookerRuntime create(JavaPlugin plugin, HookerOptions.Builder options) {
+        HookerRuntime runtime = create(plugin.getClass(), options.defaults(plugin.getLogger(), HookScheduler.of(plugin)).build());
+        runtime.attach(plugin);
+        return runtime;
+    }
+
+    /**
+     * Create a runtime for your plugin, instead of registering the shared static one.
+     *
+     * @param clazz   your main class, its class loader identifies the runtime
+     * @param options what options hooker will use
+     * @return the runtime
+     * @throws IllegalStateException if the class loader already has a runtime that hasn't been disabled.
+     * @throws IllegalArgumentException if the class was loaded by the bootstrap class loader.
+     */
+    public static HookerRuntime create(Class<?> clazz, HookerOptions options) {
+        ClassLoader loader = clazz.getClassLoader();
+        if (loader == null) {
+            throw new IllegalArgumentException(clazz.getName() + " has no class loader to identify its runtime by!");
+        }
+        // reserved first so two plugins racing on one loader can't both scan
+        if (RUNTIMES.putIfAbsent(loader, PENDING) != null) {
+            throw new IllegalStateException("Hooker is already registered for " + clazz.getName() + "!");
+        }
+        try {
+            HookerRuntime runtime = new HookerRuntime(clazz, options);
+            RUNTIMES.put(loader, runtime);
+            return runtime;
+        } catch (RuntimeException | Error e) {
+            RUNTIMES.remove(loader, PENDING);
+            throw e;
+        }
+    }
+
+    /**
+     * Get the runtime created for a class loader.
+     *
+     * @param loader the class loader of a plugin
+     * @return the runtime, or empty if the loader has no runtime or it has been disabled
+     */
+    public static Optional<HookerRuntime> runtime(ClassLoader loader) {
+        if (loader == null) return Optional.empty();
+        return RUNTIMES.get(loader) instanceof HookerRuntime runtime ? Optional.of(runtime) : Optional.empty();
+    }
+
+    /**
+     * Forget a disabled runtime, so its plugin can create a new one.
+     */
+    static void unregister(HookerRuntime runtime) {
+        RUNTIMES.remove(runtime.loader(), runtime);
     }
 
     /**
@@ -111,13 +161,24 @@ public final class Hooker {
     public static <T> Optional<T> getHook(Class<T> hookClass) {
         if (instance == null) throw new IllegalStateException("You cannot get hooks when Hooker is not initialized!");
 
-        for (Map.Entry<Class<?>, Object> hook : instance.loadedHooks.entrySet()) {
-            if (hook.getKey() == hookClass) {
-                Object value = hook.getValue();
-                if (hookClass.isInstance(value)) return Optional.of(hookClass.cast(value));
-            }
-        }
-        return Optional.empty();
+        return instance.getHook(hookClass);
+    }
+
+    /**
+     * Get a long-lived handle to a hook.
+     * <p>
+     * The handle is updated whenever the hook is loaded, reloaded or disabled,
+     * so it can be cached and read on hot paths without a lookup.
+     * </p>
+     *
+     * @param hookClass the hook to get a handle for
+     * @param <T> the hook class
+     * @return the hook's handle
+     */
+    public static <T> HookHandle<T> handle(Class<T> hookClass) {
+        if (instance == null) throw new IllegalStateException("You cannot get hooks when Hooker is not initialized!");
+
+        return instance.handle(hookClass);
     }
 
     /**
@@ -126,66 +187,81 @@ public final class Hooker {
      * @return a list of all loaded hooks and the reference to their instance.
      */
     public static List<Object> getLoadedHooks() {
-        return new ArrayList<>(instance.loadedHooks.values());
+        return instance.getLoadedHooks();
     }
 
     /**
      * Reloads any loaded hooks that are annotated with {@link Reloadable}
      * <p>
-     * This method runs some tasks asynchronously (reloadable hooks marked as async),
-     * this is why we return a completable future.
+     * Every hook is reloaded at the same time on its runner (reloadable hooks marked as async run on the async runner),
+     * so the reload takes as long as the slowest hook. A hook that throws or takes longer than
+     * {@link HookerOptions#reloadTimeout} is reported in the result instead of holding up the rest.
      * </p>
      *
      * @return returns a completable future that completes when all hooks are reloaded
      */
-    public static CompletableFuture<Void> reload() {
+    public static CompletableFuture<ReloadResult> reload() {
         if (instance == null)
             throw new IllegalStateException("You cannot reload hooks when Hooker is not initialized!");
 
-        return CompletableFuture.runAsync(() -> {
-            instance.options.logger.info("Reloading hooks...");
-            int count = instance.reloadHooks();
-            instance.options.logger.info("Reloaded " + count + " hooks!");
-        });
+        return instance.reload();
     }
 
     /**
      * Call this method in your JavaPlugin#onLoad() after you have registered Hooker and custom requirements
+     * <p>
+     * Synchronous hooks are loaded before this method returns, hooks marked as {@link Hook#async()} are
+     * started in parallel on the async runner.
+     * </p>
+     *
+     * @return a completable future that completes when every hook in the phase has finished loading
      */
-    public static void load() {
+    public static CompletableFuture<LoadResult> load() {
         if (instance == null) throw new IllegalStateException("You cannot load hooks when Hooker is not initialized!");
 
-        instance.options.logger.info("Loading onLoad hooks...");
-        int count = instance.loadHooks(instance.onLoadHooks);
-        instance.options.logger.info("Loaded " + count + " hooks!");
+        return instance.load();
     }
 
     /**
      * Call this method at the top of JavaPlugin#onEnable()
+     * <p>
+     * Synchronous hooks are loaded before this method returns, hooks marked as {@link Hook#async()} are
+     * started in parallel on the async runner. Late hooks are scheduled once the enable phase has completed.
+     * </p>
+     *
+     * @return a completable future that completes when every hook in the enable phase has finished loading
      */
-    public static void enable() {
+    public static CompletableFuture<LoadResult> enable() {
         if (instance == null) throw new IllegalStateException("You cannot load hooks when Hooker is not initialized!");
 
-        instance.options.logger.info("Loading onEnable hooks...");
-        int count = instance.loadHooks(instance.onEnableHooks);
-        instance.options.logger.info("Loaded " + count + " hooks!");
-
-        instance.options.delayedRunner.accept(() -> {
-            instance.options.logger.info("Loading late hooks...");
-            int count2 = instance.loadHooks(instance.lateHooks);
-            instance.options.logger.info("Loaded " + count2 + " hooks!");
-        });
+        return instance.enable();
     }
 
     /**
      * Call this method at the top of JavaPlugin#onDisable()
+     * <p>
+     * Hooks are stopped after the hooks that depend on them, async hooks in parallel and sync hooks on the calling
+     * thread. A hook that fails or doesn't stop within {@link HookerOptions#stopTimeout} is logged and skipped,
+     * and any hook not stopped by {@link HookerOptions#shutdownTimeout} is given up on.
+     * </p>
+     *
+     * @return which hooks were stopped and how long each took, or null if hooker was never initialized.
+     */
+    public static DisableResult disable() {
+        if (instance == null) return null;
+
+        return instance.disable();
+    }
+
+    /**
+     * Fire a {@link Await#SIGNAL} trigger, starting any hooks that were only waiting for it.
+     *
+     * @param signal the signal
      */
-    public static void disable() {
-        if (instance == null) return;
+    public static void signal(String signal) {
+        if (instance == null) throw new IllegalStateException("You cannot signal hooks when Hooker is not initialized!");
 
-        instance.options.logger.info("Disabling hooks...");
-        int count = instance.disableHooks();
-        instance.options.logger.info("Disabled " + count + " hooks!");
+        instance.signal(signal);
     }
 
     /**
@@ -195,263 +271,43 @@ public final class Hooker {
      * @param predicate   the checker
      */
     public static void requirement(String requirement, Predicate<String> predicate) {
-        if (instance == null)
-            throw new IllegalStateException("You cannot add a requirement when Hooker is not initialized!");
-
-        if (instance.requirementRegistry.exists(requirement)) {
-            throw new IllegalStateException("Requirement " + requirement + " already exists!");
-        }
-        instance.requirementRegistry.register(requirement, predicate);
-    }
-
-    private int reloadHooks() {
-        int count = 0;
-        count += reloadHooks(onEnableHooks);
-        count += reloadHooks(lateHooks);
-        return count;
-    }
-
-    private int reloadHooks(List<Class<?>> hooks) {
-        int count = 0;
-        for (Class<?> hookClass : hooks) {
-            if (loadedHooks.containsKey(hookClass)) {
-                if (reloadLoadedHook(loadedHooks.get(hookClass)).join()) count++;
-                continue;
-            }
-
-            Reloadable reloadable = hookClass.getAnnotation(Reloadable.class);
-            if (reloadable == null) continue;
-
-            if (loadHook(hookClass)) count++;
-        }
-        return count;
-    }
-
-    private CompletableFuture<Boolean> reloadLoadedHook(Object hook) {
-        CompletableFuture<Boolean> future = new CompletableFuture<>();
-        Method tempMethod = null;
-        Method tempMethod2 = null;
-        Reloadable reloadable = hook.getClass().getAnnotation(Reloadable.class);
-        if (reloadable == null) {
-            future.complete(false);
-            return future;
-        }
-
-        for (Method method : hook.getClass().getDeclaredMethods()) {
-            if (method.isAnnotationPresent(OnStart.class)) {
-                tempMethod = method;
-            }
-            if (method.isAnnotationPresent(OnStop.class)) {
-                tempMethod2 = method;
-            }
-        }
-
-        assert tempMethod != null;
-        Method startMethod = tempMethod;
-        startMethod.setAccessible(true);
-
-        Method stopMethod = tempMethod2;
-        if (stopMethod != null) {
-            stopMethod.setAccessible(true);
-        }
-
-        if (reloadable.async()) {
-            options.asyncRunner.accept(reloadTask(hook, startMethod, stopMethod, future));
-        } else {
-            options.syncRunner.accept(reloadTask(hook, startMethod, stopMethod, future));
-        }
-
-        future.thenAccept(result -> {
-            if (result) {
-                Hook hookAnnotation = hook.getClass().getAnnotation(Hook.class);
-                options.logger.info("Reloaded hook: " + hookAnnotation.id());
-            }
-        });
-
-        return future;
-    }
-
-    private Runnable reloadTask(
-            Object hook,
-            Method startMethod,
-            Method stopMethod,
-            CompletableFuture<Boolean> future
-    ) {
-        return () -> {
-            try {
-                if (stopMethod != null) {
-                    stopMethod.invoke(hook);
-                }
-                Object response = startMethod.invoke(hook);
-                if (response instanceof Boolean load) {
-                    future.complete(load);
-                } else {
-                    future.complete(true);
-                }
-            } catch (IllegalAccessException | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-        };
-    }
-
-    private int loadHooks(List<Class<?>> hooks) {
-        int count = 0;
-        for (Class<?> hookClass : hooks) {
-            if (loadHook(hookClass)) count++;
-        }
-        return count;
-    }
-
-    private boolean loadHook(Class<?> hookClass) {
-        try {
-            Hook hookAnnotation = hookClass.getAnnotation(Hook.class);
-            Require[] requirements = hookClass.getAnnotationsByType(Require.class);
-
-            boolean failed = false;
-            for (Require requirement : requirements) {
-                String type = requirement.type();
-                String value = requirement.value();
-
-                if (!requirementRegistry.checkRequirement(type, value)) {
-                    failed = true;
-                    break;
-                }
-            }
-            if (failed) return false;
-
-            Object hook = hookClass.getDeclaredConstructor().newInstance();
-
-            boolean loaded = false;
-            for (Method method : hookClass.getDeclaredMethods()) {
-                if (!method.isAnnotationPresent(OnStart.class)) continue;
-                Object response = method.invoke(hook);
-                if (response instanceof Boolean load) {
-                    loaded = load;
-                } else {
-                    loaded = true;
-                }
-                break;
-            }
-            if (!loaded) return false;
-            options.logger.info("Loaded hook: " + hookAnnotation.id());
-            loadedHooks.put(hookClass, hook);
-        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException |
-                 InvocationTargetException ex) {
-            throw new RuntimeException(ex);
-        }
-        return true;
-    }
-
-    private int disableHooks() {
-        int count = 0;
-        for (Object hook : new ArrayList<>(loadedHooks.values())) {
-            for (Method method : hook.getClass().getDeclaredMethods()) {
-                if (!method.isAnnotationPresent(OnStop.class)) continue;
-                try {
-                    method.invoke(hook);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new RuntimeException(e);
-                }
-                break;
-            }
-            loadedHooks.remove(hook.getClass());
-            Hook hookAnnotation = hook.getClass().getAnnotation(Hook.class);
-            options.logger.info("Disabled hook: " + hookAnnotation.id());
-            count++;
-        }
-        return count;
-    }
-
-    private void scanForHooks(ClassLoader loader) {
-        for (String pkg : options.packages) {
-            try {
-                getClasses(loader, pkg).forEach((hook, order) -> {
-                    switch (order) {
-                        case LOAD -> onLoadHooks.add(hook);
-                        case ENABLE -> onEnableHooks.add(hook);
-                        case LATE -> lateHooks.add(hook);
-                    }
-                });
-            } catch (ClassNotFoundException ignored) {
-            } catch (IOException ex) {
-                throw new RuntimeException(ex);
-            }
-        }
+        requirement(requirement, predicate, false);
     }
 
-    private Map<Class<?>, HookOrder> getClasses(ClassLoader classLoader, String packageName) throws ClassNotFoundException, IOException {
-        if (classLoader == null) {
-            return Map.of();
-        }
-
-        String path = packageName.replace('.', '/');
-        Enumeration<URL> resources = classLoader.getResources(path);
-        Map<Class<?>, HookOrder> classes = new HashMap<>();
-
-        while (resources.hasMoreElements()) {
-            URL resource = resources.nextElement();
-
-            if (resource.getProtocol().equals("jar")) {
-                String jarFilePath = resource.getPath()
-                        .substring(5, resource.getPath().indexOf("!"))
-                        .replace("%20", " ");
-                JarFile jarFile = new JarFile(jarFilePath);
-
-                Enumeration<JarEntry> entries = jarFile.entries();
-                while (entries.hasMoreElements()) {
-                    JarEntry entry = entries.nextElement();
-                    if (entry.getName().startsWith(path) && entry.getName().endsWith(".class")) {
-                        String className = entry.getName().substring(0, entry.getName().length() - 6).replace('/', '.');
-                        try {
-                            Class<?> clazz = classLoader.loadClass(className);
-
-                            Hook annotation = clazz.getAnnotation(Hook.class);
-                            if (annotation != null) {
-                                classes.put(clazz, annotation.order());
-                            }
-                        } catch (ClassNotFoundException | NoClassDefFoundError ignored) {
-                        }
-                    }
-                }
-                jarFile.close();
-            } else {
-                File directory = new File(resource.getFile());
-                if (directory.exists()) {
-                    classes.putAll(findClasses(directory, packageName));
-                }
-            }
-        }
+    /**
+     * Register a custom requirement.
+     * <p>
+     * Each unique requirement value is only checked once per phase, no matter how many hooks require it.
+     * Thread safe requirements are checked in parallel on the async runner.
+     * </p>
+     *
+     * @param requirement the type
+     * @param predicate   the checker
+     * @param threadSafe  true if the checker may run off the main thread
+     */
+    public static void requirement(String requirement, Predicate<String> predicate, boolean threadSafe) {
+        if (instance == null)
+            throw new IllegalStateException("You cannot add a requirement when Hooker is not initialized!");
 
-        return classes;
+        instance.requirement(requirement, predicate, threadSafe);
     }
 
-    private Map<Class<?>, HookOrder> findClasses(File directory, String packageName) {
-        Map<Class<?>, HookOrder> classes = new HashMap<>();
-        if (!directory.exists()) {
-            return classes;
-        }
-
-        File[] files = directory.listFiles();
-        if (files == null) {
-            return classes;
-        }
+    /**
+     * Register a custom async requirement.
+     * <p>
+     * Async requirements for every hook in a phase are checked at the same time,
+     * and each hook is started as soon as its own requirements are met.
+     * </p>
+     *
+     * @param requirement   the type
+     * @param check         the checker
+     * @param timeout       how long to wait for the checker before using the timeout result
+     * @param timeoutResult whether the requirement is met if the checker times out
+     */
+    public static void requirement(String requirement, AsyncRequirement check, Duration timeout, boolean timeoutResult) {
+        if (instance == null)
+            throw new IllegalStateException("You cannot add a requirement when Hooker is not initialized!");
 
-        for (File file : files) {
-            if (file.isDirectory()) {
-                classes.putAll(findClasses(file, packageName + "." + file.getName()));
-            } else if (file.getName().endsWith(".class")) {
-                String fileName = file.getName().substring(0, file.getName().length() - 6);
-                try {
-                    Class<?> clazz = Class.forName(packageName + '.' + fileName);
-
-                    Hook annotation = clazz.getAnnotation(Hook.class);
-                    if (annotation != null) {
-                        classes.put(clazz, annotation.order());
-                    }
-                } catch (ClassNotFoundException ignored) {
-                }
-            }
-        }
-        return classes;
+        instance.requirement(requirement, check, timeout, timeoutResult);
     }
 }
@@ -0,0 +1,42 @@
+package info.preva1l.hooker;
+
+/**
+ * Receives lifecycle measurements from Hooker.
+ * <p>
+ * Install a listener with {@link HookerOptions.Builder#listener(HookerListener)}.
+ * When no listener is installed nothing is measured.
+ * Listeners are called on whichever thread finished the stage, so implementations must be thread safe.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ * @see HookMetrics
+ * @see HookProfiler
+ */
+public interface HookerListener {
+    /**
+     * Called every time a stage of a hook's lifecycle finishes.
+     *
+     * @param event the measurement.
+     */
+    default void onStage(HookStageEvent event) {
+    }
+
+    /**
+     * Called once when Hooker has found the hooks, before any are loaded.
+     *
+     * @param event the measurement.
+     */
+    default void onScan(HookScanEvent event) {
+    }
+
+    /**
+     * Called every time a span of finding or loading hooks finishes, including the load stages
+     * also reported to {@link #onStage(HookStageEvent)}.
+     *
+     * @param span the span.
+     */
+    default void onSpan(HookSpan span) {
+    }
+}
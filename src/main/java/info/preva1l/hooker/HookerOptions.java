@@ -1,6 +1,11 @@
 package info.preva1l.hooker;
 
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
@@ -10,12 +15,31 @@ import java.util.logging.Logger;
  * @author Preva1l
  */
 public final class HookerOptions {
+    private static final Duration DEFAULT_RELOAD_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_STOP_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(15);
+    private static final Duration DEFAULT_AWAIT_TIMEOUT = Duration.ofSeconds(60);
+    private static final int DEFAULT_BREAKER_THRESHOLD = 5;
+    private static final Duration DEFAULT_BREAKER_COOLDOWN = Duration.ofMinutes(1);
+    private static final long LATE_DELAY_TICKS = 60;
+
     public final Logger logger;
     public final boolean loadNow;
     public final String[] packages;
     public final Consumer<Runnable> asyncRunner;
     public final Consumer<Runnable> syncRunner;
+    public final BooleanSupplier syncThread;
     public final Consumer<Runnable> delayedRunner;
+    public final @Nullable HookExecutor executor;
+    public final @Nullable HookerListener listener;
+    public final @Nullable Path cache;
+    public final Duration reloadTimeout;
+    public final Duration stopTimeout;
+    public final Duration shutdownTimeout;
+    public final Duration awaitTimeout;
+    public final boolean watch;
+    public final int breakerThreshold;
+    public final Duration breakerCooldown;
 
     public HookerOptions(String... packages) {
         this(Logger.getAnonymousLogger(), packages);
@@ -35,12 +59,282 @@ public final class HookerOptions {
                          Consumer<Runnable> syncRunner,
                          Consumer<Runnable> delayedRunner,
                          String... packages
+    ) {
+        this(logger, loadNow, asyncRunner, syncRunner, () -> false, delayedRunner, null, null, null,
+                DEFAULT_RELOAD_TIMEOUT, DEFAULT_STOP_TIMEOUT, DEFAULT_SHUTDOWN_TIMEOUT, DEFAULT_AWAIT_TIMEOUT, false,
+                DEFAULT_BREAKER_THRESHOLD, DEFAULT_BREAKER_COOLDOWN, packages);
+    }
+
+    private HookerOptions(Logger logger,
+                          boolean loadNow,
+                          Consumer<Runnable> asyncRunner,
+                          Consumer<Runnable> syncRunner,
+                          BooleanSupplier syncThread,
+                          Consumer<Runnable> delayedRunner,
+                          @Nullable HookExecutor executor,
+                          @Nullable HookerListener listener,
+                          @Nullable Path cache,
+                          Duration reloadTimeout,
+                          Duration stopTimeout,
+                          Duration shutdownTimeout,
+                          Duration awaitTimeout,
+                          boolean watch,
+                          int breakerThreshold,
+                          Duration breakerCooldown,
+                          String... packages
     ) {
         this.logger = logger;
         this.loadNow = loadNow;
         this.packages = packages;
         this.asyncRunner = asyncRunner;
         this.syncRunner = syncRunner;
+        this.syncThread = syncThread;
         this.delayedRunner = delayedRunner;
+        this.executor = executor;
+        this.listener = listener;
+        this.cache = cache;
+        this.reloadTimeout = reloadTimeout;
+        this.stopTimeout = stopTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.awaitTimeout = awaitTimeout;
+        this.watch = watch;
+        this.breakerThreshold = breakerThreshold;
+        this.breakerCooldown = breakerCooldown;
+    }
+
+    /**
+     * Start building options.
+     *
+     * @param packages what packages hooker will scan for class annotated with the {@link info.preva1l.hooker.annotation.Hook} annotation
+     * @return the builder
+     */
+    public static Builder builder(String... packages) {
+        return new Builder(packages);
+    }
+
+    /**
+     * Builds {@link HookerOptions}, anything that isn't set uses the same default as the constructors.
+     */
+    public static final class Builder {
+        private final String[] packages;
+        private Logger logger;
+        private boolean loadNow;
+        private Consumer<Runnable> asyncRunner;
+        private Consumer<Runnable> syncRunner;
+        private Consumer<Runnable> delayedRunner;
+        private HookScheduler scheduler;
+        private HookExecutor executor;
+        private HookerListener listener;
+        private Path cache;
+        private Duration reloadTimeout;
+        private Duration stopTimeout;
+        private Duration shutdownTimeout;
+        private Duration awaitTimeout;
+        private boolean watch;
+        private int breakerThreshold = DEFAULT_BREAKER_THRESHOLD;
+        private Duration breakerCooldown;
+
+        private Builder(String... packages) {
+            this.packages = packages;
+        }
+
+        /**
+         * @param logger the logger hooker will log to
+         * @return this builder
+         */
+        public Builder logger(Logger logger) {
+            this.logger = logger;
+            return this;
+        }
+
+        /**
+         * @param loadNow true to load the onLoad hooks as soon as hooker is registered
+         * @return this builder
+         */
+        public Builder loadNow(boolean loadNow) {
+            this.loadNow = loadNow;
+            return this;
+        }
+
+        /**
+         * @param asyncRunner runs tasks off the main thread
+         * @return this builder
+         */
+        public Builder asyncRunner(Consumer<Runnable> asyncRunner) {
+            this.asyncRunner = asyncRunner;
+            return this;
+        }
+
+        /**
+         * @param syncRunner runs tasks on the main thread
+         * @return this builder
+         */
+        public Builder syncRunner(Consumer<Runnable> syncRunner) {
+            this.syncRunner = syncRunner;
+            return this;
+        }
+
+        /**
+         * @param delayedRunner runs the late hook phase
+         * @return this builder
+         */
+        public Builder delayedRunner(Consumer<Runnable> delayedRunner) {
+            this.delayedRunner = delayedRunner;
+            return this;
+        }
+
+        /**
+         * Run hooks with a scheduler, any runner that is set explicitly takes priority over it.
+         *
+         * @param scheduler the scheduler, for example {@link HookScheduler#of(org.bukkit.plugin.Plugin)}
+         * @return this builder
+         */
+        public Builder scheduler(HookScheduler scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Run async hooks and thread safe requirements on an executor of their own instead of the async runner,
+         * so hooks that block can't starve the rest of the server's async work.
+         *
+         * @param executor the executor, for example {@link HookExecutor#shared()} to share virtual threads or a pool
+         *                 with every other plugin
+         * @return this builder
+         */
+        public Builder executor(HookExecutor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param listener receives a measurement of every hook lifecycle stage, see {@link HookMetrics}
+         * @return this builder
+         */
+        public Builder listener(HookerListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Cache the hooks found by scanning, so they don't need to be scanned for again until the jar changes.
+         * <p>
+         * The cache is not used when the jar has a hook index, or when the hooks are not in a jar.
+         * </p>
+         *
+         * @param cache the file to cache the hooks in, for example {@code getDataFolder().toPath().resolve("hooks.cache")}
+         * @return this builder
+         */
+        public Builder cache(Path cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * @param reloadTimeout how long a hook can take to reload before it is reported as timed out, defaults to 30 seconds
+         * @return this builder
+         */
+        public Builder reloadTimeout(Duration reloadTimeout) {
+            this.reloadTimeout = reloadTimeout;
+            return this;
+        }
+
+        /**
+         * @param stopTimeout how long an async hook can take to stop before it is given up on, defaults to 5 seconds
+         * @return this builder
+         */
+        public Builder stopTimeout(Duration stopTimeout) {
+            this.stopTimeout = stopTimeout;
+            return this;
+        }
+
+        /**
+         * @param shutdownTimeout how long disabling every hook can take, hooks that haven't stopped by then are
+         *                        given up on, defaults to 15 seconds
+         * @return this builder
+         */
+        public Builder shutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+            return this;
+        }
+
+        /**
+         * @param awaitTimeout how long a hook waits for its {@link info.preva1l.hooker.annotation.Await} triggers
+         *                     before it is skipped, defaults to 60 seconds
+         * @return this builder
+         */
+        public Builder awaitTimeout(Duration awaitTimeout) {
+            this.awaitTimeout = awaitTimeout;
+            return this;
+        }
+
+        /**
+         * Start and stop hooks as the plugins they {@link info.preva1l.hooker.annotation.Require} are enabled
+         * and disabled, instead of only checking when the hooks load.
+         * <p>
+         * Only the hooks requiring the plugin, and the hooks depending on them, are started or stopped.
+         * Needs hooker to be registered with a plugin.
+         * </p>
+         *
+         * @param watch true to watch plugins, defaults to false
+         * @return this builder
+         */
+        public Builder watch(boolean watch) {
+            this.watch = watch;
+            return this;
+        }
+
+        /**
+         * Stop starting a hook once it has failed to start too many times in a row, until a cooldown has passed.
+         * <p>
+         * While a hook's breaker is open its retries, reloads and on demand starts are skipped.
+         * </p>
+         *
+         * @param threshold how many failures in a row open the breaker, 0 to never open it, defaults to 5
+         * @param cooldown  how long the breaker stays open before the hook is tried again, defaults to 1 minute
+         * @return this builder
+         */
+        public Builder circuitBreaker(int threshold, Duration cooldown) {
+            this.breakerThreshold = threshold;
+            this.breakerCooldown = cooldown;
+            return this;
+        }
+
+        /**
+         * Fill in anything that hasn't been set with the given defaults.
+         */
+        Builder defaults(Logger logger, HookScheduler scheduler) {
+            if (this.logger == null) this.logger = logger;
+            if (this.scheduler == null) this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * @return the options
+         */
+        public HookerOptions build() {
+            HookScheduler scheduler = this.scheduler;
+            return new HookerOptions(
+                    logger == null ? Logger.getAnonymousLogger() : logger,
+                    loadNow,
+                    asyncRunner != null ? asyncRunner : scheduler != null ? scheduler::runAsync : CompletableFuture::runAsync,
+                    syncRunner != null ? syncRunner : scheduler != null ? scheduler::runSync : Runnable::run,
+                    // a custom sync runner could run anywhere, so work for it is always handed to it
+                    syncRunner != null ? () -> false : scheduler != null ? scheduler::isSyncThread : () -> true,
+                    delayedRunner != null ? delayedRunner
+                            : scheduler != null ? task -> scheduler.runLater(task, LATE_DELAY_TICKS) : Runnable::run,
+                    executor,
+                    listener,
+                    cache,
+                    reloadTimeout == null ? DEFAULT_RELOAD_TIMEOUT : reloadTimeout,
+                    stopTimeout == null ? DEFAULT_STOP_TIMEOUT : stopTimeout,
+                    shutdownTimeout == null ? DEFAULT_SHUTDOWN_TIMEOUT : shutdownTimeout,
+                    awaitTimeout == null ? DEFAULT_AWAIT_TIMEOUT : awaitTimeout,
+                    watch,
+                    breakerThreshold,
+                    breakerCooldown == null ? DEFAULT_BREAKER_COOLDOWN : breakerCooldown,
+                    packages
+            );
+        }
     }
 }
@@ -0,0 +1,1052 @@
+package info.preva1l.hooker;
+
+import info.preva1l.hooker.annotation.*;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+/**
+ * The hooks of a single plugin, see {@link Hooker#create(org.bukkit.plugin.java.JavaPlugin, HookerOptions.Builder)}.
+ * <p>
+ * A runtime only ever sees the hooks it scanned, so plugins sharing one copy of hooker can't reach each other's hooks.
+ * Hook metadata and {@link HookExecutor#shared()} are shared by every runtime in the jvm.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+public final class HookerRuntime {
+    private final ClassLoader loader;
+    private final RequirementRegistry requirementRegistry;
+    private final HookerOptions options;
+    private final Instrumentation instrumentation;
+
+    private final List<HookMetadata> onLoadHooks = new ArrayList<>();
+    private final List<HookMetadata> onEnableHooks = new ArrayList<>();
+    private final List<HookMetadata> lateHooks = new ArrayList<>();
+
+    private final HookGraph graph;
+
+    private final HookRegistry loadedHooks;
+    private final HookTriggers triggers;
+    private final Map<HookMetadata.Requirement, List<HookMetadata>> watched;
+    private final Set<HookOrder> loadedPhases = ConcurrentHashMap.newKeySet();
+    private final Map<HookMetadata, CompletableFuture<Boolean>> hookFutures = new ConcurrentHashMap<>();
+    private final Set<HookMetadata> watchStarting = ConcurrentHashMap.newKeySet();
+    private final Map<HookMetadata, HookBreaker> breakers = new ConcurrentHashMap<>();
+    private @Nullable Plugin plugin;
+
+    private final long sweepInterval;
+    private volatile boolean sweeping;
+    private volatile boolean disabled;
+
+    HookerRuntime(Class<?> clazz, HookerOptions options) {
+        this.loader = clazz.getClassLoader();
+        this.requirementRegistry = new RequirementRegistry();
+        this.options = options;
+        this.instrumentation = new Instrumentation(options.listener, options.logger);
+        this.loadedHooks = new HookRegistry(options.logger);
+        this.triggers = new HookTriggers();
+
+        HookScanner.scan(loader, options, instrumentation).forEach(this::addHook);
+
+        List<HookMetadata> hooks = new ArrayList<>(onLoadHooks);
+        hooks.addAll(onEnableHooks);
+        hooks.addAll(lateHooks);
+        this.graph = HookGraph.build(hooks);
+        sortHooks(onLoadHooks);
+        sortHooks(onEnableHooks);
+        sortHooks(lateHooks);
+        this.sweepInterval = sweepInterval(hooks);
+        this.watched = options.watch ? watchIndex(graph) : Map.of();
+
+        if (options.loadNow) {
+            load();
+        }
+    }
+
+    /**
+     * @return the class loader of the plugin this runtime belongs to.
+     */
+    public ClassLoader loader() {
+        return loader;
+    }
+
+    /**
+     * Fire the plugin and server load triggers, and watch plugins, from this plugin's events once it's enabled.
+     */
+    void attach(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * @return the options this runtime was created with.
+     */
+    public HookerOptions options() {
+        return options;
+    }
+
+    /**
+     * Get a hook by the class if the hook is loaded.
+     *
+     * @param hookClass the hook to get
+     * @param <T> the hook class
+     * @return the hook if loaded, empty optional if not
+     */
+    public <T> Optional<T> getHook(Class<T> hookClass) {
+        return loadedHooks.get(hookClass);
+    }
+
+    /**
+     * Get a long-lived handle to a hook.
+     * <p>
+     * The handle is updated whenever the hook is loaded, reloaded or disabled,
+     * so it can be cached and read on hot paths without a lookup.
+     * </p>
+     *
+     * @param hookClass the hook to get a handle for
+     * @param <T> the hook class
+     * @return the hook's handle
+     */
+    public <T> HookHandle<T> handle(Class<T> hookClass) {
+        return loadedHooks.handle(hookClass);
+    }
+
+    /**
+     * Gets all loaded hook objects.
+     *
+     * @return a list of all loaded hooks and the reference to their instance.
+     */
+    public List<Object> getLoadedHooks() {
+        return loadedHooks.values();
+    }
+
+    /**
+     * Reloads any loaded hooks that are annotated with {@link Reloadable}
+     * <p>
+     * Every hook is reloaded at the same time on its runner (reloadable hooks marked as async run on the async runner),
+     * so the reload takes as long as the slowest hook. A hook that throws or takes longer than
+     * {@link HookerOptions#reloadTimeout} is reported in the result instead of holding up the rest.
+     * </p>
+     *
+     * @return returns a completable future that completes when all hooks are reloaded
+     */
+    public CompletableFuture<ReloadResult> reload() {
+        options.logger.info("Reloading hooks...");
+        return reloadHooks().thenApply(result -> {
+            options.logger.info("Reloaded " + result.count() + " hooks!");
+            return result;
+        });
+    }
+
+    /**
+     * Call this method in your JavaPlugin#onLoad() after you have registered Hooker and custom requirements
+     * <p>
+     * Synchronous hooks are loaded before this method returns, hooks marked as {@link Hook#async()} are
+     * started in parallel on the async runner.
+     * </p>
+     *
+     * @return a completable future that completes when every hook in the phase has finished loading
+     */
+    public CompletableFuture<LoadResult> load() {
+        return loadPhase(HookOrder.LOAD, onLoadHooks);
+    }
+
+    /**
+     * Call this method at the top of JavaPlugin#onEnable()
+     * <p>
+     * Synchronous hooks are loaded before this method returns, hooks marked as {@link Hook#async()} are
+     * started in parallel on the async runner. Late hooks are scheduled once the enable phase has completed.
+     * </p>
+     *
+     * @return a completable future that completes when every hook in the enable phase has finished loading
+     */
+    public CompletableFuture<LoadResult> enable() {
+        if (plugin != null) {
+            BukkitTriggers.register(plugin, triggers);
+            if (options.watch) RequirementWatcher.register(plugin, this);
+        }
+
+        CompletableFuture<LoadResult> future = loadPhase(HookOrder.ENABLE, onEnableHooks);
+        // late hooks with triggers start as soon as they fire, the rest wait for the delayed runner
+        CompletableFuture<Void> delay = new CompletableFuture<>();
+        future.whenComplete((result, throwable) -> {
+            long delayStart = System.nanoTime();
+            options.syncRunner.accept(() -> loadPhase(HookOrder.LATE, lateHooks, delay));
+            options.delayedRunner.accept(() -> {
+                instrumentation.span(HookSpan.Kind.LATE_DELAY, HookOrder.LATE, delayStart);
+                delay.complete(null);
+            });
+        });
+        return future;
+    }
+
+    /**
+     * Fire a {@link Await#SIGNAL} trigger, starting any hooks that were only waiting for it.
+     *
+     * @param signal the signal
+     */
+    public void signal(String signal) {
+        triggers.fire(Await.SIGNAL, signal);
+    }
+
+    /**
+     * Call this method at the top of JavaPlugin#onDisable()
+     * <p>
+     * Hooks are stopped after the hooks that depend on them, async hooks in parallel and sync hooks on the calling
+     * thread. A hook that fails or doesn't stop within {@link HookerOptions#stopTimeout} is logged and skipped,
+     * and any hook not stopped by {@link HookerOptions#shutdownTimeout} is given up on.
+     * </p>
+     *
+     * @return which hooks were stopped and how long each took.
+     */
+    public DisableResult disable() {
+        options.logger.info("Disabling hooks...");
+        DisableResult result = disableHooks();
+        Hooker.unregister(this);
+        options.logger.info("Disabled " + result.count() + " hooks in "
+                + TimeUnit.NANOSECONDS.toMillis(result.duration()) + "ms!");
+        return result;
+    }
+
+    /**
+     * Register a custom requirement.
+     *
+     * @param requirement the type
+     * @param predicate   the checker
+     */
+    public void requirement(String requirement, Predicate<String> predicate) {
+        requirement(requirement, predicate, false);
+    }
+
+    /**
+     * Register a custom requirement.
+     * <p>
+     * Each unique requirement value is only checked once per phase, no matter how many hooks require it.
+     * Thread safe requirements are checked in parallel on the async runner.
+     * </p>
+     *
+     * @param requirement the type
+     * @param predicate   the checker
+     * @param threadSafe  true if the checker may run off the main thread
+     */
+    public void requirement(String requirement, Predicate<String> predicate, boolean threadSafe) {
+        if (requirementRegistry.exists(requirement)) {
+            throw new IllegalStateException("Requirement " + requirement + " already exists!");
+        }
+        requirementRegistry.register(requirement, predicate, threadSafe);
+    }
+
+    /**
+     * Register a custom async requirement.
+     * <p>
+     * Async requirements for every hook in a phase are checked at the same time,
+     * and each hook is started as soon as its own requirements are met.
+     * </p>
+     *
+     * @param requirement   the type
+     * @param check         the checker
+     * @param timeout       how long to wait for the checker before using the timeout result
+     * @param timeoutResult whether the requirement is met if the checker times out
+     */
+    public void requirement(String requirement, AsyncRequirement check, Duration timeout, boolean timeoutResult) {
+        if (requirementRegistry.exists(requirement)) {
+            throw new IllegalStateException("Requirement " + requirement + " already exists!");
+        }
+        requirementRegistry.register(requirement, check, timeout, timeoutResult);
+    }
+
+    CompletableFuture<ReloadResult> reloadHooks() {
+        long start = System.nanoTime();
+        requirementRegistry.invalidate();
+
+        List<HookMetadata> hooks = new ArrayList<>(onEnableHooks);
+        hooks.addAll(lateHooks);
+
+        Map<HookMetadata, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+        for (HookMetadata hook : hooks) {
+            if (hook.reloadable() == null) continue;
+
+            CompletableFuture<Boolean> future;
+            Object loaded = loadedHooks.instance(hook.hookClass());
+            if (loaded != null) {
+                future = reloadLoadedHook(hook, loaded);
+            } else if (loadedHooks.contains(hook.hookClass())) {
+                // a lazy hook that hasn't been used yet has nothing to reload
+                continue;
+            } else {
+                future = reloadUnloadedHook(hook);
+            }
+
+            // the timeout is applied to a copy so a slow hook still publishes its reload when it finishes
+            futures.put(hook, future.thenApply(result -> result)
+                    .orTimeout(options.reloadTimeout.toNanos(), TimeUnit.NANOSECONDS));
+        }
+
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).handle((ignored, t) -> {
+            List<String> reloaded = new ArrayList<>();
+            List<String> skipped = new ArrayList<>();
+            Map<String, Throwable> failed = new LinkedHashMap<>();
+            List<String> timedOut = new ArrayList<>();
+            futures.forEach((hook, future) -> {
+                try {
+                    if (future.join()) {
+                        reloaded.add(hook.id());
+                    } else {
+                        skipped.add(hook.id());
+                    }
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause() == null ? e : e.getCause();
+                    if (cause instanceof TimeoutException) {
+                        timedOut.add(hook.id());
+                        options.logger.warning("Hook " + hook.id() + " did not reload within " + options.reloadTimeout + "!");
+                    } else {
+                        failed.put(hook.id(), cause);
+                        options.logger.log(Level.SEVERE, "Failed to reload hook " + hook.id() + "!", cause);
+                    }
+                }
+            });
+            return new ReloadResult(reloaded, skipped, failed, timedOut, System.nanoTime() - start);
+        });
+    }
+
+    private CompletableFuture<Boolean> reloadLoadedHook(HookMetadata metadata, Object hook) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        boolean swap = metadata.reloadable() != null && metadata.reloadable().swap();
+        runner(metadata).accept(() -> {
+            try {
+                future.complete(instrumentation.measure(metadata, HookStage.RELOAD, () -> swap
+                        ? swapHook(metadata, hook)
+                        : restartHook(metadata, hook)
+                ));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    private boolean restartHook(HookMetadata metadata, Object hook) {
+        instrumentation.measure(metadata, HookStage.STOP, () -> metadata.stop(hook));
+        if (!instrumentation.measure(metadata, HookStage.START, () -> metadata.start(hook))) return false;
+
+        loadedHooks.reloaded(metadata.hookClass(), hook);
+        options.logger.info("Reloaded hook: " + metadata.id());
+        return true;
+    }
+
+    private boolean swapHook(HookMetadata metadata, Object hook) {
+        // the current instance keeps serving until its replacement has started
+        Object replacement = instrumentation.measure(metadata, HookStage.CONSTRUCT, metadata::construct);
+        if (!instrumentation.measure(metadata, HookStage.START, () -> metadata.start(replacement))) return false;
+
+        loadedHooks.reloaded(metadata.hookClass(), replacement);
+        try {
+            instrumentation.measure(metadata, HookStage.STOP, () -> metadata.stop(hook));
+        } catch (Throwable t) {
+            // the replacement is already serving, so the reload still succeeded
+            options.logger.log(Level.WARNING, "Failed to stop the replaced instance of hook " + metadata.id() + "!", t);
+        }
+        options.logger.info("Swapped hook: " + metadata.id());
+        return true;
+    }
+
+    private CompletableFuture<Boolean> reloadUnloadedHook(HookMetadata metadata) {
+        // a hook still waiting on its triggers is started by them, not by a reload
+        if (!triggers.pending(metadata.awaits()).isEmpty()) return CompletableFuture.completedFuture(false);
+
+        return checkRequirements(metadata).thenCompose(met -> {
+            CompletableFuture<Boolean> future = new CompletableFuture<>();
+            if (!met) {
+                future.complete(false);
+                return future;
+            }
+
+            runner(metadata).accept(() -> {
+                try {
+                    future.complete(loadHook(metadata));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+            return future;
+        });
+    }
+
+    /**
+     * @return the runner a reloadable hook is reloaded on.
+     */
+    private Consumer<Runnable> runner(HookMetadata metadata) {
+        HookMetadata.ReloadPolicy reloadable = metadata.reloadable();
+        return reloadable != null && reloadable.async() ? async(metadata) : options.syncRunner;
+    }
+
+    /**
+     * @return the runner async work for a hook is run on.
+     */
+    private Consumer<Runnable> async(HookMetadata metadata) {
+        HookExecutor executor = options.executor;
+        return executor == null
+                ? options.asyncRunner
+                : task -> executor.execute(metadata.hookClass(), task);
+    }
+
+    CompletableFuture<LoadResult> loadPhase(HookOrder order) {
+        return switch (order) {
+            case LOAD -> loadPhase(order, onLoadHooks);
+            case ENABLE -> loadPhase(order, onEnableHooks);
+            case LATE -> loadPhase(order, lateHooks, CompletableFuture.completedFuture(null));
+        };
+    }
+
+    HookRegistry registry() {
+        return loadedHooks;
+    }
+
+    private CompletableFuture<LoadResult> loadPhase(HookOrder order, List<HookMetadata> hooks) {
+        return loadPhase(order, hooks, null);
+    }
+
+    /**
+     * @param delay what late hooks without triggers wait for, or null if they don't wait.
+     */
+    private CompletableFuture<LoadResult> loadPhase(
+            HookOrder order,
+            List<HookMetadata> hooks,
+            @Nullable CompletableFuture<Void> delay
+    ) {
+        options.logger.info("Loading " + order.name().toLowerCase(Locale.ROOT) + " hooks...");
+        long start = System.nanoTime();
+        startSweeper();
+
+        // requirements can change between phases (plugins get enabled), so results are only reused within a phase
+        requirementRegistry.invalidate();
+
+        // every hook's requirements are checked up front, so async requirements all run at the same time,
+        // hooks that are waiting on triggers have theirs checked once the triggers fire
+        Map<HookMetadata, CompletableFuture<Boolean>> requirements = new HashMap<>();
+        for (HookMetadata hook : hooks) {
+            CompletableFuture<Boolean> fired = awaitTriggers(hook, delay);
+            if (fired.isDone()) {
+                requirements.put(hook, fired.thenCompose(met -> met ? checkRequirements(hook) : fired));
+                continue;
+            }
+
+            // triggers complete on whichever thread fired them, so the hook is handed back to the sync runner,
+            // and a trigger usually means something its requirements check has changed
+            requirements.put(hook, fired.thenComposeAsync(met -> {
+                if (!met) return fired;
+                if (!hook.awaits().isEmpty()) hook.requirements().forEach(requirementRegistry::invalidate);
+                return checkRequirements(hook);
+            }, options.syncRunner::accept));
+        }
+
+        Map<HookMetadata, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+        for (HookMetadata hook : hooks) {
+            CompletableFuture<Boolean> future = startHook(hook, requirements.get(hook), dependencies(hook, futures));
+            futures.put(hook, future);
+            hookFutures.put(hook, future);
+        }
+
+        // a hook that fails is reported in the result, the rest of the phase carries on without it
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).handle((ignored, t) -> {
+            List<String> loaded = new ArrayList<>();
+            List<String> skipped = new ArrayList<>();
+            Map<String, Throwable> failed = new LinkedHashMap<>();
+            futures.forEach((hook, future) -> {
+                try {
+                    if (future.join()) {
+                        loaded.add(hook.id());
+                    } else {
+                        skipped.add(hook.id());
+                    }
+                } catch (CompletionException e) {
+                    failed.put(hook.id(), e.getCause() == null ? e : e.getCause());
+                }
+            });
+
+            loadedPhases.add(order);
+            instrumentation.span(HookSpan.Kind.PHASE, order, start);
+            LoadResult result = new LoadResult(order, loaded, skipped, failed, System.nanoTime() - start);
+            options.logger.info("Loaded " + result.count() + " hooks!");
+            return result;
+        });
+    }
+
+    private CompletableFuture<Boolean> checkRequirements(HookMetadata hook) {
+        return instrumentation.measure(
+                hook,
+                HookStage.REQUIREMENTS,
+                requirementRegistry.checkAll(hook.requirements(), async(hook))
+        );
+    }
+
+    /**
+     * Creates a future that completes with true once every trigger the hook awaits has fired,
+     * or false if they haven't all fired within the await timeout.
+     */
+    private CompletableFuture<Boolean> awaitTriggers(HookMetadata hook, @Nullable CompletableFuture<Void> delay) {
+        List<HookMetadata.Trigger> awaits = hook.awaits();
+        if (awaits.isEmpty()) {
+            return delay == null ? CompletableFuture.completedFuture(true) : awaited(hook, delay.thenApply(ignored -> true));
+        }
+
+        CompletableFuture<?>[] fired = new CompletableFuture[awaits.size()];
+        for (int i = 0; i < fired.length; i++) {
+            fired[i] = triggers.await(awaits.get(i));
+        }
+        return awaited(hook, CompletableFuture.allOf(fired)
+                .thenApply(ignored -> true)
+                .completeOnTimeout(false, options.awaitTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                .thenApply(met -> {
+                    if (!met) {
+                        options.logger.warning("Skipping hook " + hook.id() + " as it is still waiting for "
+                                + triggers.pending(awaits) + " after " + options.awaitTimeout + "!");
+                    }
+                    return met;
+                }));
+    }
+
+    /**
+     * Report how long a hook waited, if it had to wait at all.
+     */
+    private CompletableFuture<Boolean> awaited(HookMetadata hook, CompletableFuture<Boolean> future) {
+        if (!instrumentation.enabled() || future.isDone()) return future;
+
+        long start = System.nanoTime();
+        return future.whenComplete((met, throwable) -> instrumentation.span(HookSpan.Kind.AWAIT, hook, start, List.of()));
+    }
+
+    /**
+     * Creates a future that completes with true once every dependency of the hook has loaded,
+     * or false as soon as it is known that one of them did not.
+     * A dependency from an earlier phase may still be waiting on its triggers, requirements or runner,
+     * so its future from that phase is waited on too.
+     */
+    private CompletableFuture<Boolean> dependencies(
+            HookMetadata hook,
+            Map<HookMetadata, CompletableFuture<Boolean>> phase
+    ) {
+        List<HookMetadata> dependencies = graph.dependencies(hook);
+        if (dependencies.isEmpty()) return CompletableFuture.completedFuture(true);
+
+        CompletableFuture<?>[] futures = new CompletableFuture[dependencies.size()];
+        for (int i = 0; i < futures.length; i++) {
+            HookMetadata dependency = dependencies.get(i);
+            CompletableFuture<Boolean> future = phase.get(dependency);
+            if (future == null) future = hookFutures.get(dependency);
+            futures[i] = future != null
+                    ? future
+                    : CompletableFuture.completedFuture(loadedHooks.contains(dependency.hookClass()));
+        }
+
+        return CompletableFuture.allOf(futures).handle((ignored, throwable) -> {
+            for (CompletableFuture<?> future : futures) {
+                if (future.isCompletedExceptionally() || !Boolean.TRUE.equals(future.join())) return false;
+            }
+            return true;
+        });
+    }
+
+    private CompletableFuture<Boolean> startHook(
+            HookMetadata hook,
+            CompletableFuture<Boolean> requirements,
+            CompletableFuture<Boolean> dependencies
+    ) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        // sync hooks whose requirements and dependencies are already met are started straight away on the
+        // loading thread, otherwise they are handed back to the sync runner once the last one finishes
+        CompletableFuture<Boolean> met = requirements.thenCombine(dependencies, (required, depended) -> {
+            if (!required) return false;
+            if (!depended && !disabled) options.logger.warning("Skipping hook " + hook.id() + " as a dependency did not load!");
+            return depended;
+        });
+        boolean immediate = met.isDone();
+        met.whenComplete((loaded, throwable) -> {
+            if (throwable != null || !loaded) {
+                future.complete(false);
+                return;
+            }
+
+            long ready = System.nanoTime();
+            Runnable task = () -> {
+                // how long the hook waited for its runner once it was ready
+                instrumentation.span(HookSpan.Kind.HANDOFF, hook, ready, hook.dependsOn());
+                attemptLoad(hook, 1, future);
+            };
+            if (hook.async()) {
+                async(hook).accept(task);
+            } else if (immediate) {
+                task.run();
+            } else {
+                options.syncRunner.accept(task);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Load a hook on the current thread, scheduling another attempt if it throws and is {@link Retry retried}.
+     */
+    private void attemptLoad(HookMetadata metadata, int attempt, CompletableFuture<Boolean> future) {
+        try {
+            future.complete(loadHook(metadata));
+        } catch (Throwable t) {
+            HookMetadata.RetryPolicy retry = metadata.retry();
+            if (retry == null || attempt >= retry.maxAttempts() || breaker(metadata).isOpen()) {
+                options.logger.log(Level.SEVERE, "Failed to load hook " + metadata.id() + "!", t);
+                future.completeExceptionally(t);
+                return;
+            }
+
+            long delay = backoff(retry, attempt);
+            options.logger.warning("Failed to load hook " + metadata.id() + " (attempt " + attempt + "/"
+                    + retry.maxAttempts() + "), retrying in " + TimeUnit.NANOSECONDS.toMillis(delay) + "ms: " + t);
+            Consumer<Runnable> runner = metadata.async() ? async(metadata) : options.syncRunner;
+            Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, options.asyncRunner::accept);
+            delayed.execute(() -> runner.accept(() -> {
+                if (disabled) {
+                    future.complete(false);
+                } else {
+                    attemptLoad(metadata, attempt + 1, future);
+                }
+            }));
+        }
+    }
+
+    /**
+     * The delay doubles with every attempt up to the max, then a random amount of up to half of it is taken off
+     * so hooks failing on the same service spread their retries out.
+     */
+    private static long backoff(HookMetadata.RetryPolicy retry, int attempt) {
+        long max = retry.maxBackoff().toNanos();
+        long delay = Math.min(retry.backoff().toNanos(), max);
+        for (int i = 1; i < attempt && delay < max; i++) {
+            delay = delay > max / 2 ? max : delay * 2;
+        }
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+    }
+
+    private HookBreaker breaker(HookMetadata metadata) {
+        return breakers.computeIfAbsent(metadata, key -> new HookBreaker(
+                options.breakerThreshold <= 0 ? Integer.MAX_VALUE : options.breakerThreshold,
+                options.breakerCooldown.toNanos()
+        ));
+    }
+
+    /**
+     * Load a hook whose requirements have already been checked, by its phase, a reload or a watched plugin.
+     */
+    private boolean loadHook(HookMetadata metadata) {
+        if (disabled) return false;
+
+        if (metadata.lazy()) {
+            options.logger.info("Deferred hook: " + metadata.id());
+            loadedHooks.defer(metadata.hookClass(), () -> createLazyHook(metadata), lazyRunner(metadata));
+            // it counts as loaded for dependencies, so it does for hooks awaiting it too
+            triggers.fire(Await.HOOK, metadata.id());
+            return true;
+        }
+
+        return createHook(metadata);
+    }
+
+    /**
+     * Hooks that aren't async are only ever started on the main thread, even when they are first used off it.
+     */
+    private @Nullable Consumer<Runnable> lazyRunner(HookMetadata metadata) {
+        if (metadata.async()) return null;
+        return task -> {
+            if (options.syncThread.getAsBoolean()) {
+                task.run();
+            } else {
+                options.syncRunner.accept(task);
+            }
+        };
+    }
+
+    private void createLazyHook(HookMetadata metadata) {
+        try {
+            createHook(metadata);
+        } catch (Throwable t) {
+            options.logger.log(Level.SEVERE, "Failed to start hook " + metadata.id() + " on demand!", t);
+        }
+    }
+
+    private boolean createHook(HookMetadata metadata) {
+        // triggers, async requirements and queued starts can all finish after disabling has begun
+        if (disabled) return false;
+
+        HookBreaker breaker = breaker(metadata);
+        if (!breaker.allow()) {
+            options.logger.warning("Skipping hook " + metadata.id() + " as it failed to start "
+                    + breaker.failures() + " times in a row!");
+            return false;
+        }
+
+        Object hook;
+        boolean started;
+        try {
+            hook = instrumentation.measure(metadata, HookStage.CONSTRUCT, metadata::construct);
+            started = instrumentation.measure(metadata, HookStage.START, () -> metadata.start(hook));
+        } catch (Throwable t) {
+            if (breaker.failure()) {
+                options.logger.warning("Hook " + metadata.id() + " failed to start " + breaker.failures()
+                        + " times in a row, it won't be started again for " + options.breakerCooldown + "!");
+            }
+            throw t;
+        }
+        breaker.success();
+        if (!started) return false;
+        if (disabled) {
+            // disabling began while it was starting, so it has to be stopped here as it will never be registered
+            try {
+                instrumentation.measure(metadata, HookStage.STOP, () -> metadata.stop(hook));
+            } catch (Throwable t) {
+                options.logger.log(Level.SEVERE, "Failed to stop hook " + metadata.id() + "!", t);
+            }
+            return false;
+        }
+
+        options.logger.info("Loaded hook: " + metadata.id());
+        loadedHooks.put(metadata.hookClass(), hook);
+        if (metadata.idleAfter() != null) loadedHooks.track(metadata.hookClass());
+        triggers.fire(Await.HOOK, metadata.id());
+        return true;
+    }
+
+    /**
+     * Evictable hooks are checked twice per idle window of the shortest one, so they are evicted at most
+     * one and a half windows after they were last used.
+     */
+    private static long sweepInterval(List<HookMetadata> hooks) {
+        long interval = -1;
+        for (HookMetadata hook : hooks) {
+            if (hook.idleAfter() == null) continue;
+            long half = Math.max(hook.idleAfter().toNanos() / 2, TimeUnit.SECONDS.toNanos(1));
+            if (interval == -1 || half < interval) interval = half;
+        }
+        return interval;
+    }
+
+    private void startSweeper() {
+        if (sweepInterval == -1 || sweeping) return;
+        sweeping = true;
+        scheduleSweep();
+    }
+
+    private void scheduleSweep() {
+        Executor delayed = CompletableFuture.delayedExecutor(
+                sweepInterval,
+                TimeUnit.NANOSECONDS,
+                options.asyncRunner::accept
+        );
+        delayed.execute(() -> {
+            if (!sweeping) return;
+            try {
+                sweep();
+            } catch (Throwable t) {
+                options.logger.log(Level.WARNING, "Failed to evict idle hooks!", t);
+            } finally {
+                if (sweeping) scheduleSweep();
+            }
+        });
+    }
+
+    private void sweep() {
+        long now = System.nanoTime();
+        for (HookMetadata metadata : graph.order()) {
+            Duration idleAfter = metadata.idleAfter();
+            if (idleAfter == null || !loadedHooks.idle(metadata.hookClass(), now, idleAfter.toNanos())) continue;
+
+            // hooks are stopped on the same thread they are started on
+            Runnable evict = () -> evictHook(metadata);
+            if (metadata.async()) {
+                async(metadata).accept(evict);
+            } else {
+                options.syncRunner.accept(evict);
+            }
+        }
+    }
+
+    private void evictHook(HookMetadata metadata) {
+        boolean evicted = loadedHooks.evict(
+                metadata.hookClass(),
+                hook -> instrumentation.measure(metadata, HookStage.STOP, () -> metadata.stop(hook)),
+                () -> createLazyHook(metadata),
+                lazyRunner(metadata)
+        );
+        if (evicted) options.logger.info("Evicted idle hook: " + metadata.id());
+    }
+
+    /**
+     * Index every requirement to the hooks that need it, directly or through a dependency, dependencies first.
+     */
+    private static Map<HookMetadata.Requirement, List<HookMetadata>> watchIndex(HookGraph graph) {
+        Map<HookMetadata, Set<HookMetadata.Requirement>> needs = new HashMap<>();
+        Map<HookMetadata.Requirement, List<HookMetadata>> index = new HashMap<>();
+        for (HookMetadata hook : graph.order()) {
+            Set<HookMetadata.Requirement> requirements = new HashSet<>(hook.requirements());
+            for (HookMetadata dependency : graph.dependencies(hook)) {
+                requirements.addAll(needs.get(dependency));
+            }
+            needs.put(hook, requirements);
+            for (HookMetadata.Requirement requirement : requirements) {
+                index.computeIfAbsent(requirement, key -> new ArrayList<>()).add(hook);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Start the hooks that weren't loaded because a requirement wasn't met, now that it might be.
+     * <p>
+     * Only hooks whose phase has already loaded are started, one after another so dependencies start first.
+     * </p>
+     *
+     * @param requirement the requirement.
+     */
+    void requirementGained(HookMetadata.Requirement requirement) {
+        List<HookMetadata> hooks = watched.get(requirement);
+        if (hooks == null) return;
+        requirementRegistry.invalidate(requirement);
+
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (HookMetadata hook : hooks) {
+            chain = chain.thenCompose(ignored -> startWatchedHook(hook));
+        }
+    }
+
+    /**
+     * Stop the hooks that need a requirement that is no longer met, dependents first.
+     * <p>
+     * Hooks are stopped on the calling thread, for a disabled plugin that is before the plugin is disabled
+     * so the hooks can still use it while stopping.
+     * </p>
+     *
+     * @param requirement the requirement.
+     */
+    void requirementLost(HookMetadata.Requirement requirement) {
+        List<HookMetadata> hooks = watched.get(requirement);
+        if (hooks == null) return;
+        requirementRegistry.invalidate(requirement);
+
+        for (int i = hooks.size() - 1; i >= 0; i--) {
+            unloadHook(hooks.get(i));
+        }
+    }
+
+    private CompletableFuture<Void> startWatchedHook(HookMetadata metadata) {
+        if (!loadedPhases.contains(metadata.order()) || loadedHooks.contains(metadata.hookClass())) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // a hook still waiting on its triggers is started by them
+        if (!triggers.pending(metadata.awaits()).isEmpty()) return CompletableFuture.completedFuture(null);
+        for (HookMetadata dependency : graph.dependencies(metadata)) {
+            if (!loadedHooks.contains(dependency.hookClass())) return CompletableFuture.completedFuture(null);
+        }
+        if (!watchStarting.add(metadata)) return CompletableFuture.completedFuture(null);
+
+        return checkRequirements(metadata).thenCompose(met -> {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            if (!met) {
+                watchStarting.remove(metadata);
+                future.complete(null);
+                return future;
+            }
+
+            (metadata.async() ? async(metadata) : options.syncRunner).accept(() -> {
+                try {
+                    if (!loadedHooks.contains(metadata.hookClass())) loadHook(metadata);
+                } catch (Throwable t) {
+                    options.logger.log(Level.SEVERE, "Failed to start hook " + metadata.id() + "!", t);
+                } finally {
+                    watchStarting.remove(metadata);
+                    future.complete(null);
+                }
+            });
+            return future;
+        });
+    }
+
+    private void unloadHook(HookMetadata metadata) {
+        if (metadata.lazy() || metadata.idleAfter() != null) loadedHooks.cancel(metadata.hookClass());
+
+        Object hook = loadedHooks.instance(metadata.hookClass());
+        if (hook == null) {
+            // a lazy hook that was never used has nothing to stop
+            loadedHooks.remove(metadata.hookClass());
+            return;
+        }
+
+        try {
+            instrumentation.measure(metadata, HookStage.STOP, () -> metadata.stop(hook));
+            options.logger.info("Unloaded hook: " + metadata.id());
+        } catch (Throwable t) {
+            options.logger.log(Level.SEVERE, "Failed to stop hook " + metadata.id() + "!", t);
+        } finally {
+            loadedHooks.remove(metadata.hookClass());
+        }
+    }
+
+    DisableResult disableHooks() {
+        sweeping = false;
+        disabled = true;
+        // nothing is started by watched plugins once disabling has begun
+        loadedPhases.clear();
+        // hooks still waiting on triggers, requirements or their runner are skipped
+        hookFutures.values().forEach(future -> future.complete(false));
+        long start = System.nanoTime();
+        long deadline = start + options.shutdownTimeout.toNanos();
+        List<HookMetadata> hooks = new ArrayList<>(graph.order());
+        // dependents are stopped before the hooks they depend on
+        Collections.reverse(hooks);
+
+        Map<String, Long> stopped = new ConcurrentHashMap<>();
+        Map<String, Throwable> failed = new ConcurrentHashMap<>();
+        Set<String> timedOut = ConcurrentHashMap.newKeySet();
+        Map<HookMetadata, CompletableFuture<Void>> stops = new LinkedHashMap<>();
+        Map<HookMetadata, List<CompletableFuture<Void>>> dependentStops = new HashMap<>();
+        ExecutorService pool = null;
+
+        for (HookMetadata metadata : hooks) {
+            // a lazy or evicted hook that hasn't been used never needs stopping
+            if (metadata.lazy() || metadata.idleAfter() != null) loadedHooks.cancel(metadata.hookClass());
+
+            Object hook = loadedHooks.instance(metadata.hookClass());
+            if (hook == null) continue;
+
+            CompletableFuture<Void> dependents = CompletableFuture.allOf(dependentStops
+                    .getOrDefault(metadata, List.of()).toArray(CompletableFuture[]::new));
+            if (metadata.async()) {
+                // the bukkit scheduler no longer runs tasks while the plugin is disabling, so async hooks get their own threads
+                if (pool == null) pool = Executors.newCachedThreadPool(new ShutdownThreadFactory());
+                Executor executor = pool;
+                CompletableFuture<Void> stop = dependents
+                        .handle((result, throwable) -> null)
+                        .thenCompose(ignored -> CompletableFuture
+                                .runAsync(() -> stopHook(metadata, hook, stopped, failed), executor)
+                                .orTimeout(options.stopTimeout.toNanos(), TimeUnit.NANOSECONDS));
+                stop.whenComplete((result, throwable) -> {
+                    if (throwable instanceof CompletionException) throwable = throwable.getCause();
+                    if (throwable instanceof TimeoutException) timeOut(metadata, timedOut);
+                    loadedHooks.remove(metadata.hookClass());
+                });
+                stopped(metadata, stop, stops, dependentStops);
+                continue;
+            }
+
+            // sync hooks are stopped on the disabling thread once the async hooks depending on them have stopped
+            awaitUntil(dependents, deadline);
+            if (System.nanoTime() - deadline >= 0) {
+                timedOut.add(metadata.id());
+                options.logger.warning("Skipped stopping hook " + metadata.id() + ", the shutdown deadline passed!");
+            } else {
+                stopHook(metadata, hook, stopped, failed);
+                Long took = stopped.get(metadata.id());
+                if (took != null && took > options.stopTimeout.toNanos()) {
+                    options.logger.warning("Hook " + metadata.id() + " took " + TimeUnit.NANOSECONDS.toMillis(took) + "ms to stop!");
+                }
+            }
+            loadedHooks.remove(metadata.hookClass());
+            stopped(metadata, CompletableFuture.completedFuture(null), stops, dependentStops);
+        }
+
+        awaitUntil(CompletableFuture.allOf(stops.values().toArray(CompletableFuture[]::new)), deadline);
+        // daemon threads, any stop still running is abandoned rather than holding up the server
+        if (pool != null) pool.shutdown();
+
+        Map<String, Long> stoppedHooks = new LinkedHashMap<>();
+        Map<String, Throwable> failedHooks = new LinkedHashMap<>();
+        List<String> timedOutHooks = new ArrayList<>();
+        stops.forEach((metadata, stop) -> {
+            String id = metadata.id();
+            if (failed.containsKey(id)) {
+                failedHooks.put(id, failed.get(id));
+            } else if (timedOut.contains(id) || !stopped.containsKey(id)) {
+                timeOut(metadata, timedOut);
+                loadedHooks.remove(metadata.hookClass());
+                timedOutHooks.add(id);
+            } else {
+                stoppedHooks.put(id, stopped.get(id));
+            }
+        });
+        return new DisableResult(stoppedHooks, failedHooks, timedOutHooks, System.nanoTime() - start);
+    }
+
+    private void stopped(
+            HookMetadata hook,
+            CompletableFuture<Void> stop,
+            Map<HookMetadata, CompletableFuture<Void>> stops,
+            Map<HookMetadata, List<CompletableFuture<Void>>> dependentStops
+    ) {
+        stops.put(hook, stop);
+        for (HookMetadata dependency : graph.dependencies(hook)) {
+            dependentStops.computeIfAbsent(dependency, key -> new ArrayList<>()).add(stop);
+        }
+    }
+
+    private void stopHook(HookMetadata metadata, Object hook, Map<String, Long> stopped, Map<String, Throwable> failed) {
+        long start = System.nanoTime();
+        try {
+            instrumentation.measure(metadata, HookStage.STOP, () -> metadata.stop(hook));
+            stopped.put(metadata.id(), System.nanoTime() - start);
+            options.logger.info("Disabled hook: " + metadata.id());
+        } catch (Throwable e) {
+            failed.put(metadata.id(), e);
+            options.logger.log(Level.SEVERE, "Failed to stop hook " + metadata.id() + "!", e);
+        }
+    }
+
+    private void timeOut(HookMetadata metadata, Set<String> timedOut) {
+        if (timedOut.add(metadata.id())) {
+            options.logger.warning("Hook " + metadata.id() + " did not stop in time, skipping it!");
+        }
+    }
+
+    private static void awaitUntil(CompletableFuture<?> future, long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) return;
+        try {
+            future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException | TimeoutException ignored) {
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class ShutdownThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Hooker Shutdown Thread #" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private void sortHooks(List<HookMetadata> hooks) {
+        List<HookMetadata> sorted = graph.sort(hooks);
+        hooks.clear();
+        hooks.addAll(sorted);
+    }
+
+    private void addHook(HookMetadata hook) {
+        switch (hook.order()) {
+            case LOAD -> onLoadHooks.add(hook);
+            case ENABLE -> onEnableHooks.add(hook);
+            case LATE -> lateHooks.add(hook);
+        }
+    }
+}
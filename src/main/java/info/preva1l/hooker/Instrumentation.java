@@ -0,0 +1,220 @@
+package info.preva1l.hooker;
+
+import com.sun.management.ThreadMXBean;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Measures hook stages and reports them to the installed {@link HookerListener}.
+ * <p>
+ * When there is no listener every method is a single null check.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class Instrumentation {
+    private static final ThreadMXBean THREADS = threads();
+
+    private final @Nullable HookerListener listener;
+    private final Logger logger;
+
+    Instrumentation(@Nullable HookerListener listener, Logger logger) {
+        this.listener = listener;
+        this.logger = logger;
+    }
+
+    /**
+     * Run and measure a stage on the current thread.
+     * <p>
+     * A stage that returns {@code false} is reported as {@link HookStageEvent.Outcome#SKIPPED}.
+     * </p>
+     *
+     * @param hook  the hook the stage belongs to.
+     * @param stage the stage.
+     * @param task  the stage itself.
+     * @param <T>   the stage result type.
+     * @return the stage result.
+     */
+    <T> T measure(HookMetadata hook, HookStage stage, Supplier<T> task) {
+        if (listener == null) return task.get();
+
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        try {
+            T result = task.get();
+            report(hook, stage, start, allocated, Boolean.FALSE.equals(result)
+                    ? HookStageEvent.Outcome.SKIPPED
+                    : HookStageEvent.Outcome.SUCCESS, null);
+            return result;
+        } catch (RuntimeException | Error e) {
+            report(hook, stage, start, allocated, HookStageEvent.Outcome.FAILED, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Run and measure a stage that has no result on the current thread.
+     *
+     * @param hook  the hook the stage belongs to.
+     * @param stage the stage.
+     * @param task  the stage itself.
+     */
+    void measure(HookMetadata hook, HookStage stage, Runnable task) {
+        measure(hook, stage, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Measure a stage that completes asynchronously, from now until the future completes.
+     * <p>
+     * Allocations are not measured as the work may happen on any number of threads.
+     * </p>
+     *
+     * @param hook   the hook the stage belongs to.
+     * @param stage  the stage.
+     * @param future the stage.
+     * @param <T>    the stage result type.
+     * @return the same future.
+     */
+    <T> CompletableFuture<T> measure(HookMetadata hook, HookStage stage, CompletableFuture<T> future) {
+        if (listener == null) return future;
+
+        long start = System.nanoTime();
+        future.whenComplete((result, throwable) -> report(hook, stage, start, -1, throwable != null
+                ? HookStageEvent.Outcome.FAILED
+                : Boolean.FALSE.equals(result) ? HookStageEvent.Outcome.SKIPPED : HookStageEvent.Outcome.SUCCESS,
+                throwable
+        ));
+        return future;
+    }
+
+    /**
+     * Report how the hooks were found.
+     *
+     * @param source where the hooks came from.
+     * @param hooks  how many hooks were found.
+     * @param start  when finding them started, in {@link System#nanoTime()}.
+     */
+    void scanned(HookScanEvent.Source source, int hooks, long start) {
+        if (listener == null) return;
+
+        try {
+            listener.onScan(new HookScanEvent(source, hooks, System.nanoTime() - start));
+        } catch (Throwable t) {
+            logger.log(Level.WARNING, "Hooker listener threw an exception!", t);
+        }
+        span(HookSpan.Kind.SCAN, null, start);
+    }
+
+    /**
+     * @return true if there is a listener, so spans that need extra work to measure are worth measuring.
+     */
+    boolean enabled() {
+        return listener != null;
+    }
+
+    /**
+     * Report a span that isn't for a single hook, from the start until now.
+     *
+     * @param kind  the kind of span.
+     * @param order the phase the span belongs to, or null.
+     * @param start when the span started, in {@link System#nanoTime()}.
+     */
+    void span(HookSpan.Kind kind, @Nullable HookOrder order, long start) {
+        if (listener == null) return;
+        span(new HookSpan(kind, null, order, Thread.currentThread().getName(), start, System.nanoTime() - start, List.of()));
+    }
+
+    /**
+     * Report a span of a hook, from the start until now.
+     *
+     * @param kind  the kind of span.
+     * @param hook  the hook the span belongs to.
+     * @param start when the span started, in {@link System#nanoTime()}.
+     * @param after the ids of the hooks the span waited for.
+     */
+    void span(HookSpan.Kind kind, HookMetadata hook, long start, List<String> after) {
+        if (listener == null) return;
+        span(new HookSpan(kind, hook.id(), hook.order(), Thread.currentThread().getName(), start,
+                System.nanoTime() - start, after));
+    }
+
+    private void span(HookSpan span) {
+        try {
+            listener.onSpan(span);
+        } catch (Throwable t) {
+            logger.log(Level.WARNING, "Hooker listener threw an exception!", t);
+        }
+    }
+
+    private void report(
+            HookMetadata hook,
+            HookStage stage,
+            long start,
+            long allocatedBefore,
+            HookStageEvent.Outcome outcome,
+            @Nullable Throwable error
+    ) {
+        long duration = System.nanoTime() - start;
+        long allocated = allocatedBefore == -1 ? -1 : allocatedBytes() - allocatedBefore;
+        String thread = Thread.currentThread().getName();
+        try {
+            listener.onStage(new HookStageEvent(
+                    hook.id(),
+                    stage,
+                    thread,
+                    start,
+                    duration,
+                    allocated,
+                    outcome,
+                    error
+            ));
+        } catch (Throwable t) {
+            logger.log(Level.WARNING, "Hooker listener threw an exception!", t);
+        }
+
+        HookSpan.Kind kind = switch (stage) {
+            case REQUIREMENTS -> HookSpan.Kind.REQUIREMENTS;
+            case CONSTRUCT -> HookSpan.Kind.CONSTRUCT;
+            case START -> HookSpan.Kind.START;
+            case STOP, RELOAD -> null;
+        };
+        if (kind != null) span(new HookSpan(kind, hook.id(), hook.order(), thread, start, duration, List.of()));
+    }
+
+    /**
+     * Convert a {@link System#nanoTime()} to milliseconds since the epoch, for JFR timestamps.
+     */
+    static long epochMillis(long nanoTime) {
+        return System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - nanoTime);
+    }
+
+    private static long allocatedBytes() {
+        if (THREADS == null) return -1;
+        return THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    private static @Nullable ThreadMXBean threads() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threads
+                    && threads.isThreadAllocatedMemorySupported()
+                    && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads;
+            }
+        } catch (Throwable ignored) {
+            // not available on this jvm
+        }
+        return null;
+    }
+}
@@ -0,0 +1,39 @@
+package info.preva1l.hooker;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A summary of a loaded phase.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ *
+ * @param order    the phase that was loaded.
+ * @param loaded   the ids of the hooks that were loaded.
+ * @param skipped  the ids of the hooks that did not meet their requirements or chose not to load.
+ * @param failed   the ids of the hooks that threw an exception while loading, after any retries, with the exception.
+ * @param duration how long the phase took in nanoseconds, from the first hook starting to the last hook finishing.
+ */
+public record LoadResult(
+        HookOrder order,
+        List<String> loaded,
+        List<String> skipped,
+        Map<String, Throwable> failed,
+        long duration
+) {
+    /**
+     * @return how many hooks were loaded.
+     */
+    public int count() {
+        return loaded.size();
+    }
+
+    /**
+     * @return true if no hook failed.
+     */
+    public boolean successful() {
+        return failed.isEmpty();
+    }
+}
@@ -0,0 +1,222 @@
+package info.preva1l.hooker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Checks the class files of a set of jars and directories for hooks on a {@link ForkJoinPool}.
+ * <p>
+ * Every jar and directory is its own task, jars are split into batches of entries and directories into their
+ * sub directories and batches of files, so a single large jar or module still spreads across every worker.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class ParallelScan {
+    private static final int BATCH = 64;
+
+    private ParallelScan() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Find the hook class names in the jars and directories.
+     *
+     * @param pool        the pool to scan on.
+     * @param jars        the jars to scan.
+     * @param paths       the package paths to scan jars for, each ending with a {@code /}.
+     * @param directories the directories to scan, with the package path of each.
+     * @return the hook class names, sorted so the result doesn't depend on which worker found each hook.
+     * @throws IOException if a jar or directory could not be read.
+     */
+    static List<String> run(
+            ForkJoinPool pool,
+            Collection<Path> jars,
+            List<String> paths,
+            Map<Path, String> directories
+    ) throws IOException {
+        Set<String> names = ConcurrentHashMap.newKeySet();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (Path jar : jars) {
+            tasks.add(new JarScan(jar, paths, names));
+        }
+        directories.forEach((directory, path) -> {
+            // a directory inside another one is already covered by the outer one's scan
+            for (Path other : directories.keySet()) {
+                if (!other.equals(directory) && directory.startsWith(other)) return;
+            }
+            tasks.add(new DirectoryScan(directory, path, names));
+        });
+
+        try {
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        List<String> sorted = new ArrayList<>(names);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private static void check(ByteBuffer classFile, String name, Set<String> names) {
+        if (HookClassFile.isHook(classFile)) {
+            names.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+        }
+    }
+
+    private static final class JarScan extends RecursiveAction {
+        private final Path jar;
+        private final List<String> paths;
+        private final Set<String> names;
+
+        private JarScan(Path jar, List<String> paths, Set<String> names) {
+            this.jar = jar;
+            this.paths = paths;
+            this.names = names;
+        }
+
+        @Override
+        protected void compute() {
+            try (ZipFile zip = new ZipFile(jar.toFile())) {
+                List<ZipEntry> classes = new ArrayList<>();
+                Enumeration<? extends ZipEntry> entries = zip.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    if (entry.getName().endsWith(".class") && inPaths(entry.getName())) classes.add(entry);
+                }
+                new EntryScan(zip, classes, 0, classes.size(), names).invoke();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private boolean inPaths(String name) {
+            for (String path : paths) {
+                if (name.startsWith(path)) return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class EntryScan extends RecursiveAction {
+        private final ZipFile zip;
+        private final List<ZipEntry> entries;
+        private final int from;
+        private final int to;
+        private final Set<String> names;
+
+        private EntryScan(ZipFile zip, List<ZipEntry> entries, int from, int to, Set<String> names) {
+            this.zip = zip;
+            this.entries = entries;
+            this.from = from;
+            this.to = to;
+            this.names = names;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BATCH) {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new EntryScan(zip, entries, from, middle, names),
+                        new EntryScan(zip, entries, middle, to, names)
+                );
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                ZipEntry entry = entries.get(i);
+                try (InputStream in = zip.getInputStream(entry)) {
+                    check(ByteBuffer.wrap(in.readAllBytes()), entry.getName(), names);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    private static final class DirectoryScan extends RecursiveAction {
+        private final Path directory;
+        private final String path;
+        private final Set<String> names;
+
+        private DirectoryScan(Path directory, String path, Set<String> names) {
+            this.directory = directory;
+            this.path = path;
+            this.names = names;
+        }
+
+        @Override
+        protected void compute() {
+            List<RecursiveAction> tasks = new ArrayList<>();
+            List<Path> files = new ArrayList<>();
+            try (Stream<Path> children = Files.list(directory)) {
+                for (Path child : (Iterable<Path>) children::iterator) {
+                    String name = child.getFileName().toString();
+                    if (Files.isDirectory(child)) {
+                        tasks.add(new DirectoryScan(child, path + "/" + name, names));
+                    } else if (name.endsWith(".class")) {
+                        files.add(child);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            if (!files.isEmpty()) tasks.add(new FileScan(files, 0, files.size(), path, names));
+            invokeAll(tasks);
+        }
+    }
+
+    private static final class FileScan extends RecursiveAction {
+        private final List<Path> files;
+        private final int from;
+        private final int to;
+        private final String path;
+        private final Set<String> names;
+
+        private FileScan(List<Path> files, int from, int to, String path, Set<String> names) {
+            this.files = files;
+            this.from = from;
+            this.to = to;
+            this.path = path;
+            this.names = names;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BATCH) {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new FileScan(files, from, middle, path, names),
+                        new FileScan(files, middle, to, path, names)
+                );
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                Path file = files.get(i);
+                try {
+                    check(ByteBuffer.wrap(Files.readAllBytes(file)), path + "/" + file.getFileName(), names);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+}
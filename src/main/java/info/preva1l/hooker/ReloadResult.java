@@ -0,0 +1,39 @@
+package info.preva1l.hooker;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A summary of a reload.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ *
+ * @param reloaded the ids of the hooks that were reloaded, or loaded for the first time.
+ * @param skipped  the ids of the reloadable hooks that did not meet their requirements or chose not to load.
+ * @param failed   the ids of the hooks that threw an exception while reloading, with the exception.
+ * @param timedOut the ids of the hooks that did not finish reloading in time, they may still finish later.
+ * @param duration how long the reload took in nanoseconds, which is as long as the slowest hook.
+ */
+public record ReloadResult(
+        List<String> reloaded,
+        List<String> skipped,
+        Map<String, Throwable> failed,
+        List<String> timedOut,
+        long duration
+) {
+    /**
+     * @return how many hooks were reloaded.
+     */
+    public int count() {
+        return reloaded.size();
+    }
+
+    /**
+     * @return true if no hook failed or timed out.
+     */
+    public boolean successful() {
+        return failed.isEmpty() && timedOut.isEmpty();
+    }
+}
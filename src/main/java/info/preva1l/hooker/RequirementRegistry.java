@@ -2,8 +2,15 @@ package info.preva1l.hooker;
 
 import org.bukkit.Bukkit;
 
-import java.util.HashMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -12,7 +19,8 @@ import java.util.function.Predicate;
  * @author Preva1l
  */
 public final class RequirementRegistry {
-    private final Map<String, Predicate<String>> requirements = new HashMap<>();
+    private final Map<String, Requirement> requirements = new ConcurrentHashMap<>();
+    private final Map<HookMetadata.Requirement, CompletableFuture<Boolean>> results = new ConcurrentHashMap<>();
 
     RequirementRegistry() {
         register("plugin", value -> {
@@ -33,13 +41,18 @@ public final class RequirementRegistry {
 
     /**
      * Parse a requirement and get the result.
+     * <p>
+     * This always runs the requirement's check, it does not use or update the memoized results.
+     * Async requirements are waited on, up to their timeout.
+     * </p>
      *
      * @param requirement the requirement type/key.
      * @param value the value to check.
      * @return if the requirement is met.
      */
     public boolean checkRequirement(String requirement, String value) {
-        return requirements.containsKey(requirement) && requirements.get(requirement).test(value);
+        Requirement registered = requirements.get(requirement);
+        return registered != null && registered.check(value, Runnable::run).join();
     }
 
     /**
@@ -49,6 +62,142 @@ public final class RequirementRegistry {
      * @param predicate the value parser.
      */
     public void register(String requirement, Predicate<String> predicate) {
-        requirements.put(requirement, predicate);
+        register(requirement, predicate, false);
+    }
+
+    /**
+     * Register a requirement.
+     *
+     * @param requirement the requirement type/key.
+     * @param predicate the value parser.
+     * @param threadSafe true if the predicate may be run off the main thread, in parallel with other requirements.
+     */
+    public void register(String requirement, Predicate<String> predicate, boolean threadSafe) {
+        requirements.put(requirement, new SyncRequirement(predicate, threadSafe));
+    }
+
+    /**
+     * Register an async requirement.
+     *
+     * @param requirement the requirement type/key.
+     * @param check the value checker.
+     * @param timeout how long to wait for the check to complete.
+     * @param timeoutResult the result to use if the check times out.
+     */
+    public void register(String requirement, AsyncRequirement check, Duration timeout, boolean timeoutResult) {
+        requirements.put(requirement, new TimedRequirement(check, timeout, timeoutResult));
+    }
+
+    /**
+     * Check a set of requirements, using the memoized results where there are some.
+     * <p>
+     * Each unique requirement is only evaluated once until the results are {@link #invalidate() invalidated}.
+     * Thread safe and async requirements run in parallel,
+     * the rest are run on the calling thread before this method returns.
+     * </p>
+     *
+     * @param toCheck     the requirements to check.
+     * @param asyncRunner the runner for thread safe requirements.
+     * @return a future that completes with true if every requirement is met.
+     */
+    CompletableFuture<Boolean> checkAll(Collection<HookMetadata.Requirement> toCheck, Consumer<Runnable> asyncRunner) {
+        if (toCheck.isEmpty()) return CompletableFuture.completedFuture(true);
+
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(toCheck.size());
+        for (HookMetadata.Requirement requirement : toCheck) {
+            futures.add(check(requirement, asyncRunner));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            for (CompletableFuture<Boolean> future : futures) {
+                if (!future.join()) return false;
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Check a requirement, using the memoized result if there is one.
+     *
+     * @param requirement the requirement.
+     * @param asyncRunner the runner for thread safe requirements.
+     * @return a future that completes with true if the requirement is met, it never completes exceptionally.
+     */
+    CompletableFuture<Boolean> check(HookMetadata.Requirement requirement, Consumer<Runnable> asyncRunner) {
+        CompletableFuture<Boolean> result = results.get(requirement);
+        if (result != null) return result;
+
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        result = results.putIfAbsent(requirement, created);
+        if (result != null) return result;
+
+        Requirement registered = requirements.get(requirement.type());
+        if (registered == null) {
+            created.complete(false);
+            return created;
+        }
+
+        registered.check(requirement.value(), asyncRunner).whenComplete((met, throwable) -> {
+            // a requirement that can't be checked is not met
+            created.complete(throwable == null && met);
+        });
+        return created;
+    }
+
+    /**
+     * Forget every memoized result so the next check runs the predicates again.
+     */
+    void invalidate() {
+        results.clear();
+    }
+
+    /**
+     * Forget the memoized result of a single requirement.
+     *
+     * @param requirement the requirement.
+     */
+    void invalidate(HookMetadata.Requirement requirement) {
+        results.remove(requirement);
+    }
+
+    private interface Requirement {
+        CompletableFuture<Boolean> check(String value, Consumer<Runnable> asyncRunner);
+    }
+
+    private record SyncRequirement(Predicate<String> predicate, boolean threadSafe) implements Requirement {
+        @Override
+        public CompletableFuture<Boolean> check(String value, Consumer<Runnable> asyncRunner) {
+            if (!threadSafe) {
+                try {
+                    return CompletableFuture.completedFuture(predicate.test(value));
+                } catch (Throwable t) {
+                    return CompletableFuture.failedFuture(t);
+                }
+            }
+
+            CompletableFuture<Boolean> future = new CompletableFuture<>();
+            asyncRunner.accept(() -> {
+                try {
+                    future.complete(predicate.test(value));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+            return future;
+        }
+    }
+
+    private record TimedRequirement(AsyncRequirement check, Duration timeout, boolean timeoutResult) implements Requirement {
+        @Override
+        public CompletableFuture<Boolean> check(String value, Consumer<Runnable> asyncRunner) {
+            CompletableFuture<Boolean> future;
+            try {
+                future = check.test(value);
+            } catch (Throwable t) {
+                return CompletableFuture.failedFuture(t);
+            }
+            // copy so the timeout doesn't complete the requirement's own future
+            return future.thenApply(met -> met)
+                    .completeOnTimeout(timeoutResult, timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
     }
 }
@@ -0,0 +1,51 @@
+package info.preva1l.hooker;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.server.PluginEnableEvent;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Tells a runtime when the plugins its hooks require are enabled or disabled, see {@link HookerOptions#watch}.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+final class RequirementWatcher implements Listener {
+    private static final String PLUGIN = "plugin";
+
+    private final Plugin plugin;
+    private final HookerRuntime runtime;
+
+    private RequirementWatcher(Plugin plugin, HookerRuntime runtime) {
+        this.plugin = plugin;
+        this.runtime = runtime;
+    }
+
+    /**
+     * Start watching plugins, the plugin must be enabled.
+     *
+     * @param plugin  the plugin to register the listener for.
+     * @param runtime the runtime to tell.
+     */
+    static void register(Plugin plugin, HookerRuntime runtime) {
+        Bukkit.getPluginManager().registerEvents(new RequirementWatcher(plugin, runtime), plugin);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginEnable(PluginEnableEvent event) {
+        if (event.getPlugin() == plugin) return;
+        runtime.requirementGained(new HookMetadata.Requirement(PLUGIN, event.getPlugin().getName()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+        // our own hooks are stopped by Hooker.disable()
+        if (event.getPlugin() == plugin) return;
+        runtime.requirementLost(new HookMetadata.Requirement(PLUGIN, event.getPlugin().getName()));
+    }
+}
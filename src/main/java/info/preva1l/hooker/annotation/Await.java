@@ -0,0 +1,51 @@
+package info.preva1l.hooker.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Start a hook as soon as something has happened, instead of at a fixed point.
+ * <p>
+ * A hook that awaits triggers is started once every one of them has fired and then its requirements are checked.
+ * {@link info.preva1l.hooker.HookOrder#LATE} hooks with triggers skip the fixed late delay and start the moment their triggers fire.
+ * If the triggers haven't all fired within the await timeout the hook is skipped.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Repeatable(AwaitComposite.class)
+public @interface Await {
+    /**
+     * Fires when the plugin named by the value is enabled.
+     */
+    String PLUGIN = "plugin";
+    /**
+     * Fires when the server has finished loading, after every plugin is enabled. Takes no value.
+     */
+    String SERVER_LOAD = "server-load";
+    /**
+     * Fires when the hook with the id in the value is loaded, or deferred if it's {@link Lazy}.
+     */
+    String HOOK = "hook";
+    /**
+     * Fires when {@code Hooker.signal} is called with the value.
+     */
+    String SIGNAL = "signal";
+
+    /**
+     * The type of trigger, one of {@link #PLUGIN}, {@link #SERVER_LOAD}, {@link #HOOK} or {@link #SIGNAL}.
+     *
+     * @return the type of the trigger.
+     */
+    String type() default PLUGIN;
+
+    /**
+     * The value of the trigger.
+     *
+     * @return the plugin name, hook id or signal to wait for.
+     */
+    String value() default "";
+}
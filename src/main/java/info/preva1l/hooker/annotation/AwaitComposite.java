@@ -0,0 +1,22 @@
+package info.preva1l.hooker.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface AwaitComposite {
+    /**
+     * An array of {@link Await} to support {@link java.lang.annotation.Repeatable}.
+     *
+     * @return the composite.
+     */
+    Await[] value();
+}
@@ -0,0 +1,26 @@
+package info.preva1l.hooker.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DependsOn {
+    /**
+     * The ids of the hooks that must be loaded before this hook is started.
+     * <p>
+     * Dependencies must be in the same or an earlier {@link info.preva1l.hooker.HookOrder} than the hook depending on them.
+     * If any dependency does not load, this hook is skipped.
+     * </p>
+     *
+     * @return the hook ids this hook depends on.
+     */
+    String[] value();
+}
@@ -0,0 +1,35 @@
+package info.preva1l.hooker.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stop a hook when it hasn't been used for a while, it is started again the next time it is requested.
+ *
+ * <p>
+ *     A hook is used whenever it is requested with {@code Hooker.getHook} or a handle.
+ *     Once it has been idle for {@link #idleAfter()} its {@link OnStop} is called and it is unloaded,
+ *     the next request constructs and starts a new instance on the requesting thread.
+ *     Don't keep a reference to an evictable hook, request it every time it's needed.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Evictable {
+    /**
+     * @return how long the hook can go unused before it is stopped.
+     */
+    long idleAfter() default 10;
+
+    /**
+     * @return the unit of {@link #idleAfter()}.
+     */
+    TimeUnit unit() default TimeUnit.MINUTES;
+}
@@ -28,4 +28,16 @@ public @interface Hook {
      * @return the hook load order.
      */
     HookOrder order() default HookOrder.ENABLE;
+
+    /**
+     * Hooks that have blocking start logic may be started async.
+     *
+     * <p>
+     *     If async is <b>true</b> the hook is started on the async runner alongside the other async hooks in its phase.
+     *     Otherwise, it's started on the thread that is loading the phase (the main thread).
+     * </p>
+     *
+     * @return true to start the hook async.
+     */
+    boolean async() default false;
 }
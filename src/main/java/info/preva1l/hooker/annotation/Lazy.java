@@ -0,0 +1,27 @@
+package info.preva1l.hooker.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defer constructing and starting a hook until it is first used.
+ *
+ * <p>
+ *     The hook's requirements and dependencies are still checked when its phase loads, but it is only constructed
+ *     and its {@link OnStart} called the first time it is requested with {@code Hooker.getHook} or a handle.
+ *     This happens exactly once, on the main thread like any other hook unless the hook is async.
+ *     A hook first requested on the main thread (or any thread, if it is async) is started straight away and
+ *     other threads requesting it at the same time wait for it to start. A hook that isn't async but is first
+ *     requested from another thread is queued to start on the main thread, until then requests get nothing.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Lazy {
+}
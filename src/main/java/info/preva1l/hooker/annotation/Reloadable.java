@@ -23,4 +23,18 @@ public @interface Reloadable {
      * @return true to load the hook async.
      */
     boolean async() default false;
+
+    /**
+     * Hooks that take a while to start can be swapped instead of restarted.
+     *
+     * <p>
+     *     If swap is <b>true</b> a new instance is constructed and started while the current instance keeps being
+     *     returned by {@code Hooker.getHook}, the new instance replaces it in one step and only then is the old
+     *     instance stopped. If the new instance fails to start the old instance keeps serving.
+     *     Otherwise, the current instance is stopped and started again.
+     * </p>
+     *
+     * @return true to swap in a new instance on reload.
+     */
+    boolean swap() default false;
 }
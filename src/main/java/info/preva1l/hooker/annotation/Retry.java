@@ -0,0 +1,46 @@
+package info.preva1l.hooker.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Try to start a hook again when its {@link OnStart} (or constructor) throws.
+ *
+ * <p>
+ *     Each retry waits twice as long as the one before, starting at {@link #backoff()} and capped at
+ *     {@link #maxBackoff()}, with some random jitter so hooks sharing a flaky service don't retry in step.
+ *     The wait happens on the async runner, the retry itself runs where the hook is normally started.
+ *     Hooks that depend on a retrying hook wait for it, the rest of the phase does not.
+ *     A hook whose circuit breaker opens stops retrying early.
+ * </p>
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Retry {
+    /**
+     * @return how many times the hook is started before it is given up on, including the first.
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * @return how long to wait before the first retry.
+     */
+    long backoff() default 1;
+
+    /**
+     * @return the longest a single retry waits, or -1 to wait at most a minute.
+     */
+    long maxBackoff() default -1;
+
+    /**
+     * @return the unit of {@link #backoff()} and {@link #maxBackoff()}.
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
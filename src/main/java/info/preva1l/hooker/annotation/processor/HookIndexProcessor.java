@@ -0,0 +1,146 @@
+package info.preva1l.hooker.annotation.processor;
+
+import com.google.auto.service.AutoService;
+import info.preva1l.hooker.HookIndex;
+import info.preva1l.hooker.annotation.*;
+import org.jetbrains.annotations.ApiStatus;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Writes the {@link HookIndex} so hooks can be registered without scanning the classpath at runtime.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@AutoService(Processor.class)
+@SupportedAnnotationTypes("info.preva1l.hooker.annotation.Hook")
+@ApiStatus.Internal
+public class HookIndexProcessor extends AbstractProcessor {
+    private final Map<String, Map<String, String>> hooks = new TreeMap<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    /**
+     * <b>Do not use.</b>
+     */
+    public HookIndexProcessor() {
+        super();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!hooks.isEmpty()) writeIndex();
+            return false;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(Hook.class)) {
+            if (!(element instanceof TypeElement type)) continue;
+            String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+            hooks.put(className, attributes(type));
+            originatingElements.add(type);
+        }
+        return false;
+    }
+
+    private Map<String, String> attributes(TypeElement type) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        Hook hook = type.getAnnotation(Hook.class);
+        attributes.put("id", hook.id());
+        attributes.put("order", hook.order().name());
+        if (hook.async()) attributes.put("async", "true");
+        if (type.getAnnotation(Lazy.class) != null) attributes.put("lazy", "true");
+
+        List<String> requires = new ArrayList<>();
+        for (Require require : type.getAnnotationsByType(Require.class)) {
+            requires.add(require.type() + ":" + require.value());
+        }
+        if (!requires.isEmpty()) attributes.put("require", HookIndex.join(requires));
+
+        List<String> awaits = new ArrayList<>();
+        for (Await await : type.getAnnotationsByType(Await.class)) {
+            awaits.add(await.type() + ":" + await.value());
+        }
+        if (!awaits.isEmpty()) attributes.put("await", HookIndex.join(awaits));
+
+        DependsOn dependsOn = type.getAnnotation(DependsOn.class);
+        if (dependsOn != null) attributes.put("depends", HookIndex.join(List.of(dependsOn.value())));
+
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() != ElementKind.METHOD) continue;
+            if (enclosed.getAnnotation(OnStart.class) != null) {
+                attributes.put("start", enclosed.getSimpleName().toString());
+            }
+            if (enclosed.getAnnotation(OnStop.class) != null) {
+                attributes.put("stop", enclosed.getSimpleName().toString());
+            }
+        }
+
+        Reloadable reloadable = type.getAnnotation(Reloadable.class);
+        if (reloadable != null) attributes.put("reloadable", reloadable.async() ? "async" : "sync");
+        if (reloadable != null && reloadable.swap()) attributes.put("swap", "true");
+
+        Evictable evictable = type.getAnnotation(Evictable.class);
+        if (evictable != null) {
+            attributes.put("evictable", String.valueOf(evictable.unit().toMillis(evictable.idleAfter())));
+        }
+
+        Retry retry = type.getAnnotation(Retry.class);
+        if (retry != null) {
+            // without a max backoff the reader uses the same default as the annotation
+            String policy = retry.maxAttempts() + ":" + retry.unit().toMillis(retry.backoff());
+            if (retry.maxBackoff() >= 0) policy += ":" + retry.unit().toMillis(retry.maxBackoff());
+            attributes.put("retry", policy);
+        }
+        return attributes;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(
+                    StandardLocation.CLASS_OUTPUT,
+                    "",
+                    HookIndex.LOCATION,
+                    originatingElements.toArray(Element[]::new)
+            );
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write(HookIndex.HEADER);
+                writer.write('\n');
+                for (Map.Entry<String, Map<String, String>> hook : hooks.entrySet()) {
+                    writer.write(HookIndex.format(hook.getKey(), hook.getValue()));
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Failed to write the hook index: " + e.getMessage()
+            );
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        SourceVersion latest = SourceVersion.latest();
+        if (latest.compareTo(SourceVersion.RELEASE_17) >= 0) {
+            return latest;
+        }
+        return SourceVersion.RELEASE_17;
+    }
+}
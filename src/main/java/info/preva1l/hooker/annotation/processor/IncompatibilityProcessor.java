@@ -2,6 +2,7 @@ package info.preva1l.hooker.annotation.processor;
 
 import com.google.auto.service.AutoService;
 import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.DependsOn;
 import info.preva1l.hooker.annotation.Hook;
 import info.preva1l.hooker.annotation.Reloadable;
 import org.jetbrains.annotations.ApiStatus;
@@ -14,7 +15,7 @@ import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic;
-import java.util.Set;
+import java.util.*;
 
 /**
  * Created on 10/03/2025
@@ -24,10 +25,14 @@ import java.util.Set;
 @AutoService(Processor.class)
 @SupportedAnnotationTypes({
         "info.preva1l.hooker.annotation.Hook",
-        "info.preva1l.hooker.annotation.Reloadable"
+        "info.preva1l.hooker.annotation.Reloadable",
+        "info.preva1l.hooker.annotation.DependsOn"
 })
 @ApiStatus.Internal
 public class IncompatibilityProcessor extends AbstractProcessor {
+    private final Map<String, Element> hooks = new HashMap<>();
+    private final Map<String, List<String>> dependencies = new HashMap<>();
+
     /**
      * <b>Do not use.</b>
      */
@@ -37,6 +42,18 @@ public class IncompatibilityProcessor extends AbstractProcessor {
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            checkDependencyCycles();
+            return false;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(Hook.class)) {
+            Hook hookAnnotation = element.getAnnotation(Hook.class);
+            hooks.put(hookAnnotation.id(), element);
+            DependsOn dependsOn = element.getAnnotation(DependsOn.class);
+            if (dependsOn != null) dependencies.put(hookAnnotation.id(), List.of(dependsOn.value()));
+        }
+
         for (Element element : roundEnv.getElementsAnnotatedWith(Reloadable.class)) {
             Hook hookAnnotation = element.getAnnotation(Hook.class);
             if (hookAnnotation == null) continue;
@@ -47,7 +64,42 @@ public class IncompatibilityProcessor extends AbstractProcessor {
                     element
             );
         }
-        return true;
+        // don't claim the annotations, the index processor needs to see them too
+        return false;
+    }
+
+    private void checkDependencyCycles() {
+        Set<String> done = new HashSet<>();
+        for (String id : dependencies.keySet()) {
+            visit(id, done, new ArrayList<>());
+        }
+    }
+
+    private boolean visit(String id, Set<String> done, List<String> path) {
+        if (done.contains(id)) return false;
+        int index = path.indexOf(id);
+        if (index != -1) {
+            List<String> cycle = new ArrayList<>(path.subList(index, path.size()));
+            cycle.add(id);
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Hook dependency cycle detected: " + String.join(" -> ", cycle) + "!",
+                    hooks.get(id)
+            );
+            // only report each cycle once
+            done.addAll(path);
+            return true;
+        }
+
+        path.add(id);
+        for (String dependency : dependencies.getOrDefault(id, List.of())) {
+            // hooks compiled elsewhere are checked at runtime
+            if (!hooks.containsKey(dependency)) continue;
+            if (visit(dependency, done, path)) return true;
+        }
+        path.remove(path.size() - 1);
+        done.add(id);
+        return false;
     }
 
     @Override
@@ -0,0 +1,52 @@
+package info.preva1l.hooker;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@DisplayName("Hook Breaker Tests")
+public class HookBreakerTests {
+    @Test
+    @DisplayName("Test Breaker Opens After Failures In A Row")
+    public void testOpens() {
+        HookBreaker breaker = new HookBreaker(3, TimeUnit.MINUTES.toNanos(1));
+        Assertions.assertFalse(breaker.failure());
+        Assertions.assertFalse(breaker.failure());
+        breaker.success();
+
+        Assertions.assertFalse(breaker.failure());
+        Assertions.assertFalse(breaker.failure());
+        Assertions.assertTrue(breaker.failure());
+        Assertions.assertTrue(breaker.isOpen());
+        Assertions.assertFalse(breaker.allow());
+    }
+
+    @Test
+    @DisplayName("Test Breaker Lets One Start Through After The Cooldown")
+    public void testHalfOpen() throws InterruptedException {
+        HookBreaker breaker = new HookBreaker(1, TimeUnit.MILLISECONDS.toNanos(50));
+        Assertions.assertTrue(breaker.failure());
+        Assertions.assertFalse(breaker.allow());
+
+        Thread.sleep(100);
+        Assertions.assertTrue(breaker.allow());
+        Assertions.assertFalse(breaker.allow());
+
+        // a failed trial opens it for another cooldown, already open so it isn't reported again
+        Assertions.assertFalse(breaker.failure());
+        Assertions.assertFalse(breaker.allow());
+
+        Thread.sleep(100);
+        Assertions.assertTrue(breaker.allow());
+        breaker.success();
+        Assertions.assertFalse(breaker.isOpen());
+        Assertions.assertTrue(breaker.allow());
+    }
+}
@@ -0,0 +1,50 @@
+package info.preva1l.hooker;
+
+import info.preva1l.hooker.example.hooks.LateHook;
+import info.preva1l.hooker.example.hooks.OnEnableHook;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@DisplayName("Hook Cache Tests")
+public class HookCacheTests {
+    @Test
+    @DisplayName("Test Cache Round Trip")
+    public void testRoundTrip(@TempDir Path directory) throws IOException {
+        Path cache = directory.resolve("data").resolve("hooks.cache");
+        HookCache.write(cache, "key-a", List.of(HookMetadata.of(OnEnableHook.class), HookMetadata.of(LateHook.class)));
+
+        List<HookIndex.Entry> entries = HookCache.read(cache, "key-a");
+        Assertions.assertNotNull(entries);
+        Assertions.assertEquals(2, entries.size());
+
+        HookIndex.Entry entry = entries.get(0);
+        Assertions.assertEquals(OnEnableHook.class.getName(), entry.className());
+        Assertions.assertEquals("onEnableHook", entry.id());
+        Assertions.assertEquals("onStart", entry.onStart());
+        Assertions.assertEquals("onStop", entry.onStop());
+        Assertions.assertEquals(HookIndex.join(List.of("plugin:PlaceholderAPI")), entry.attribute("require"));
+        Assertions.assertEquals("sync", entry.attribute("reloadable"));
+        Assertions.assertEquals(HookOrder.LATE, entries.get(1).order());
+    }
+
+    @Test
+    @DisplayName("Test Cache Is Ignored When The Key Changes")
+    public void testKeyChanged(@TempDir Path directory) throws IOException {
+        Path cache = directory.resolve("hooks.cache");
+        Assertions.assertNull(HookCache.read(cache, "key-a"));
+
+        HookCache.write(cache, "key-a", List.of(HookMetadata.of(OnEnableHook.class)));
+        Assertions.assertNull(HookCache.read(cache, "key-b"));
+    }
+}
@@ -0,0 +1,70 @@
+package info.preva1l.hooker;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@DisplayName("Hook Executor Tests")
+public class HookExecutorTests {
+    @Test
+    @DisplayName("Test Hook Tasks Respect The Per Hook Limit")
+    public void testPerHookLimit() throws InterruptedException {
+        HookExecutor executor = HookExecutor.pooled(8, 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Set<String> names = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(20);
+
+        for (int i = 0; i < 20; i++) {
+            executor.execute("limited", () -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                names.add(Thread.currentThread().getName());
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(peak.get() <= 2);
+        Assertions.assertEquals(Set.of("Hooker limited"), names);
+    }
+
+    @Test
+    @DisplayName("Test Different Hooks Run At The Same Time")
+    public void testHooksOverlap() throws InterruptedException {
+        HookExecutor executor = HookExecutor.create();
+        CountDownLatch started = new CountDownLatch(4);
+        CountDownLatch release = new CountDownLatch(1);
+
+        for (int i = 0; i < 4; i++) {
+            executor.execute("hook-" + i, () -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        // every hook only runs one task at once, so this only passes if they are on separate threads
+        Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+        release.countDown();
+    }
+}
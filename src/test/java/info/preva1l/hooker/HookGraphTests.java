@@ -0,0 +1,76 @@
+package info.preva1l.hooker;
+
+import info.preva1l.hooker.annotation.DependsOn;
+import info.preva1l.hooker.annotation.Hook;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@DisplayName("Hook Graph Tests")
+public class HookGraphTests {
+    @Test
+    @DisplayName("Test Dependencies Come First")
+    public void testTopologicalOrder() {
+        HookGraph graph = HookGraph.build(metadata(Economy.class, Shop.class, Base.class));
+
+        List<Class<?>> order = graph.order().stream().<Class<?>>map(HookMetadata::hookClass).toList();
+        Assertions.assertTrue(order.indexOf(Base.class) < order.indexOf(Economy.class));
+        Assertions.assertTrue(order.indexOf(Economy.class) < order.indexOf(Shop.class));
+
+        HookMetadata shop = graph.order().get(order.indexOf(Shop.class));
+        Assertions.assertEquals(List.of("economy"), graph.dependencies(shop).stream().map(HookMetadata::id).toList());
+    }
+
+    @Test
+    @DisplayName("Test Cycles Are Rejected")
+    public void testCycle() {
+        Assertions.assertThrows(IllegalStateException.class, () -> HookGraph.build(metadata(CycleA.class, CycleB.class)));
+    }
+
+    @Test
+    @DisplayName("Test Later Phase Dependencies Are Rejected")
+    public void testLaterPhase() {
+        Assertions.assertThrows(IllegalStateException.class, () -> HookGraph.build(metadata(Base.class, EarlyHook.class)));
+    }
+
+    private static List<HookMetadata> metadata(Class<?>... hooks) {
+        return Arrays.stream(hooks).map(HookMetadata::of).toList();
+    }
+
+    @Hook(id = "base", order = HookOrder.LATE)
+    static class Base {
+    }
+
+    @Hook(id = "economy", order = HookOrder.LATE)
+    @DependsOn("base")
+    static class Economy {
+    }
+
+    @Hook(id = "shop", order = HookOrder.LATE)
+    @DependsOn("economy")
+    static class Shop {
+    }
+
+    @Hook(id = "cycle-a")
+    @DependsOn("cycle-b")
+    static class CycleA {
+    }
+
+    @Hook(id = "cycle-b")
+    @DependsOn("cycle-a")
+    static class CycleB {
+    }
+
+    @Hook(id = "early", order = HookOrder.LOAD)
+    @DependsOn("base")
+    static class EarlyHook {
+    }
+}
@@ -0,0 +1,79 @@
+package info.preva1l.hooker;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@DisplayName("Hook Handle Tests")
+public class HookHandleTests {
+    private static final long IDLE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    @DisplayName("Test Idle Hook Gets Evicted And Restarted")
+    public void testEviction() {
+        HookHandle<StringBuilder> handle = new HookHandle<>(StringBuilder.class, Logger.getAnonymousLogger());
+        List<StringBuilder> stopped = new ArrayList<>();
+        StringBuilder first = new StringBuilder("first");
+        handle.loaded(first);
+        handle.track();
+
+        long now = System.nanoTime();
+        // loading counts as a use, so the first sweep only resets it
+        Assertions.assertFalse(handle.idle(now, IDLE));
+        Assertions.assertFalse(handle.idle(now + IDLE / 2, IDLE));
+        Assertions.assertTrue(handle.idle(now + IDLE, IDLE));
+
+        Assertions.assertTrue(handle.evict(stopped::add, () -> handle.loaded(new StringBuilder("second")), null));
+        Assertions.assertEquals(List.of(first), stopped);
+        Assertions.assertFalse(handle.isLoaded());
+
+        StringBuilder second = handle.get();
+        Assertions.assertNotNull(second);
+        Assertions.assertEquals("second", second.toString());
+    }
+
+    @Test
+    @DisplayName("Test Used Hook Is Not Evicted")
+    public void testUsedHookIsNotEvicted() {
+        HookHandle<StringBuilder> handle = new HookHandle<>(StringBuilder.class, Logger.getAnonymousLogger());
+        handle.loaded(new StringBuilder());
+        handle.track();
+
+        long now = System.nanoTime();
+        Assertions.assertFalse(handle.idle(now, IDLE));
+        handle.get();
+        Assertions.assertFalse(handle.idle(now + IDLE, IDLE));
+        Assertions.assertFalse(handle.evict(hook -> Assertions.fail("the hook was used"), () -> {
+        }, null));
+        Assertions.assertTrue(handle.isLoaded());
+    }
+
+    @Test
+    @DisplayName("Test Deferred Hook Is Started Once On Its Runner")
+    public void testDeferredRunner() {
+        HookHandle<StringBuilder> handle = new HookHandle<>(StringBuilder.class, Logger.getAnonymousLogger());
+        List<Runnable> queued = new ArrayList<>();
+        handle.defer(() -> handle.loaded(new StringBuilder("lazy")), queued::add);
+
+        // requests get nothing until the runner has started it, and only the first one queues the start
+        Assertions.assertNull(handle.get());
+        Assertions.assertNull(handle.get());
+        Assertions.assertEquals(1, queued.size());
+
+        queued.get(0).run();
+        StringBuilder hook = handle.get();
+        Assertions.assertNotNull(hook);
+        Assertions.assertEquals("lazy", hook.toString());
+        Assertions.assertFalse(handle.isDeferred());
+    }
+}
@@ -0,0 +1,86 @@
+package info.preva1l.hooker;
+
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.OnStart;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@DisplayName("Hook Index Tests")
+public class HookIndexTests {
+    @Test
+    @DisplayName("Test Index Line Round Trip")
+    public void testRoundTrip() {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("id", "my hook\t=1,2");
+        attributes.put("order", "LATE");
+        attributes.put("require", HookIndex.join(List.of("plugin:Vault", "config:a,b\tc")));
+        attributes.put("start", "onStart");
+
+        HookIndex.Entry entry = HookIndex.parse(HookIndex.format("me.dev.hooks.MyHook", attributes));
+
+        Assertions.assertEquals("me.dev.hooks.MyHook", entry.className());
+        Assertions.assertEquals("my hook\t=1,2", entry.id());
+        Assertions.assertEquals(HookOrder.LATE, entry.order());
+        Assertions.assertEquals(List.of("plugin:Vault", "config:a,b\tc"), entry.requires());
+        Assertions.assertEquals("onStart", entry.onStart());
+        Assertions.assertNull(entry.onStop());
+        Assertions.assertNull(entry.reloadable());
+    }
+
+    @Test
+    @DisplayName("Test Metadata Is Read From The Index")
+    public void testMetadataFromIndex() {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("id", "indexedHook");
+        attributes.put("order", "LOAD");
+        attributes.put("async", "true");
+        attributes.put("require", HookIndex.join(List.of("plugin:Vault", "config:a:b")));
+        attributes.put("depends", HookIndex.join(List.of("otherHook")));
+        attributes.put("start", "onStart");
+        attributes.put("reloadable", "async");
+        attributes.put("swap", "true");
+        attributes.put("evictable", "120000");
+        attributes.put("retry", "4:250");
+
+        HookMetadata metadata = HookMetadata.of(
+                IndexedHook.class,
+                HookIndex.parse(HookIndex.format(IndexedHook.class.getName(), attributes))
+        );
+
+        // the index was written from the annotations at compile time, so they aren't read again
+        Assertions.assertEquals("indexedHook", metadata.id());
+        Assertions.assertEquals(HookOrder.LOAD, metadata.order());
+        Assertions.assertTrue(metadata.async());
+        Assertions.assertEquals(List.of(
+                new HookMetadata.Requirement("plugin", "Vault"),
+                new HookMetadata.Requirement("config", "a:b")
+        ), metadata.requirements());
+        Assertions.assertEquals(List.of("otherHook"), metadata.dependsOn());
+        Assertions.assertEquals(new HookMetadata.ReloadPolicy(true, true), metadata.reloadable());
+        Assertions.assertEquals(Duration.ofMinutes(2), metadata.idleAfter());
+        // without a max backoff the default is used
+        Assertions.assertEquals(
+                new HookMetadata.RetryPolicy(4, Duration.ofMillis(250), HookMetadata.RetryPolicy.DEFAULT_MAX_BACKOFF),
+                metadata.retry()
+        );
+        Assertions.assertTrue(metadata.start(metadata.construct()));
+    }
+
+    @Hook(id = "annotatedHook")
+    public static class IndexedHook {
+        @OnStart
+        public void onStart() {
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package info.preva1l.hooker;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@DisplayName("Hook Profiler Tests")
+public class HookProfilerTests {
+    @Test
+    @DisplayName("Test Critical Path Follows The Dependency That Finished Last")
+    public void testCriticalPath() {
+        HookProfiler profiler = new HookProfiler();
+        // "fast" and "slow" both start straight away, "dependent" waits for both but "slow" finishes last
+        hook(profiler, "fast", 0, 10, List.of());
+        hook(profiler, "slow", 0, 50, List.of());
+        hook(profiler, "dependent", 52, 20, List.of("fast", "slow"));
+        hook(profiler, "unrelated", 0, 60, List.of());
+        profiler.onSpan(span(HookSpan.Kind.PHASE, null, 0, 75, List.of()));
+
+        List<String> path = new ArrayList<>();
+        for (HookSpan span : profiler.criticalPath(HookOrder.ENABLE)) {
+            path.add(span.hookId() + " " + span.kind());
+        }
+        Assertions.assertEquals(List.of(
+                "slow REQUIREMENTS",
+                "slow HANDOFF",
+                "slow CONSTRUCT",
+                "slow START",
+                "dependent HANDOFF",
+                "dependent CONSTRUCT",
+                "dependent START"
+        ), path);
+        Assertions.assertTrue(profiler.criticalPath(HookOrder.LATE).isEmpty());
+        Assertions.assertTrue(profiler.chromeTrace().contains("\"name\":\"dependent start\""));
+    }
+
+    /**
+     * Report the spans of a hook that is ready at the given time and takes the given time to start.
+     */
+    private static void hook(HookProfiler profiler, String id, long ready, long start, List<String> after) {
+        profiler.onSpan(span(HookSpan.Kind.REQUIREMENTS, id, 0, 1, List.of()));
+        profiler.onSpan(span(HookSpan.Kind.HANDOFF, id, ready, 1, after));
+        profiler.onSpan(span(HookSpan.Kind.CONSTRUCT, id, ready + 1, 1, List.of()));
+        profiler.onSpan(span(HookSpan.Kind.START, id, ready + 2, start, List.of()));
+    }
+
+    private static HookSpan span(HookSpan.Kind kind, String id, long start, long duration, List<String> after) {
+        return new HookSpan(kind, id, HookOrder.ENABLE, "Server thread", start, duration, after);
+    }
+}
@@ -0,0 +1,63 @@
+package info.preva1l.hooker;
+
+import info.preva1l.hooker.example.MyPlugin;
+import info.preva1l.hooker.example.hooks.LateHook;
+import info.preva1l.hooker.example.hooks.LazyHook;
+import info.preva1l.hooker.example.hooks.OnEnableHook;
+import info.preva1l.hooker.example.hooks.OnLoadHook;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@DisplayName("Hook Scanner Tests")
+public class HookScannerTests {
+    @Test
+    @DisplayName("Test Hooks Are Found In Class Files")
+    public void testClassFile() throws IOException {
+        Assertions.assertTrue(HookClassFile.isHook(classFile(OnEnableHook.class)));
+        Assertions.assertTrue(HookClassFile.isHook(classFile(LateHook.class)));
+        Assertions.assertFalse(HookClassFile.isHook(classFile(MyPlugin.class)));
+        Assertions.assertFalse(HookClassFile.isHook(ByteBuffer.wrap(new byte[]{(byte) 0xCA, (byte) 0xFE})));
+    }
+
+    @Test
+    @DisplayName("Test Classpath Scan")
+    public void testScanClasspath() {
+        var hooks = HookScanner.scanClasspath(
+                getClass().getClassLoader(),
+                new String[]{"info.preva1l.hooker.example"}
+        );
+
+        Assertions.assertEquals(Set.of(OnLoadHook.class, OnEnableHook.class, LateHook.class, LazyHook.class), Set.copyOf(hooks));
+    }
+
+    @Test
+    @DisplayName("Test Overlapping Packages Report Each Hook Once")
+    public void testOverlappingPackages() {
+        var hooks = HookScanner.scanClasspath(
+                getClass().getClassLoader(),
+                new String[]{"info.preva1l.hooker.example.hooks", "info.preva1l.hooker.example", "info.preva1l.hooker.example"}
+        );
+
+        Assertions.assertEquals(4, hooks.size());
+        Assertions.assertEquals(Set.of(OnLoadHook.class, OnEnableHook.class, LateHook.class, LazyHook.class), Set.copyOf(hooks));
+    }
+
+    private static ByteBuffer classFile(Class<?> clazz) throws IOException {
+        String name = clazz.getName().replace('.', '/') + ".class";
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(name)) {
+            Assertions.assertNotNull(in);
+            return ByteBuffer.wrap(in.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package info.preva1l.hooker;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@DisplayName("Hook Scheduler Tests")
+public class HookSchedulerTests {
+    private static ServerMock serverMock;
+    private static Plugin plugin;
+
+    @BeforeAll
+    public static void setUp() {
+        serverMock = MockBukkit.mock();
+        plugin = MockBukkit.createMockPlugin();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("Test Bukkit Scheduler Is Used Outside Folia")
+    public void testBukkitScheduler() {
+        HookScheduler scheduler = HookScheduler.of(plugin);
+        Assertions.assertInstanceOf(BukkitHookScheduler.class, scheduler);
+
+        AtomicBoolean ran = new AtomicBoolean();
+        AtomicBoolean ranLater = new AtomicBoolean();
+        scheduler.runSync(() -> ran.set(true));
+        scheduler.runLater(() -> ranLater.set(true), 60);
+
+        serverMock.getScheduler().performOneTick();
+        Assertions.assertTrue(ran.get());
+        Assertions.assertFalse(ranLater.get());
+
+        serverMock.getScheduler().performTicks(60);
+        Assertions.assertTrue(ranLater.get());
+    }
+
+    @Test
+    @DisplayName("Test Executor Scheduler Runs On Its Executors")
+    public void testExecutorScheduler() throws Exception {
+        ExecutorService main = Executors.newSingleThreadExecutor(task -> new Thread(task, "Test Main"));
+        ExecutorService async = Executors.newSingleThreadExecutor(task -> new Thread(task, "Test Async"));
+        try {
+            HookScheduler scheduler = HookScheduler.executor(main, async);
+            CompletableFuture<String> sync = new CompletableFuture<>();
+            CompletableFuture<String> later = new CompletableFuture<>();
+            CompletableFuture<String> off = new CompletableFuture<>();
+
+            scheduler.runSync(() -> sync.complete(Thread.currentThread().getName()));
+            scheduler.runLater(() -> later.complete(Thread.currentThread().getName()), 2);
+            scheduler.runAsync(() -> off.complete(Thread.currentThread().getName()));
+
+            Assertions.assertEquals("Test Main", sync.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals("Test Main", later.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals("Test Async", off.get(5, TimeUnit.SECONDS));
+        } finally {
+            main.shutdown();
+            async.shutdown();
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package info.preva1l.hooker;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import info.preva1l.hooker.runtime.Rendezvous;
+import info.preva1l.hooker.runtime.await.SignalHook;
+import info.preva1l.hooker.runtime.deadline.BaseHook;
+import info.preva1l.hooker.runtime.isolation.IsolatedHook;
+import info.preva1l.hooker.runtime.lazy.MainThreadHook;
+import info.preva1l.hooker.runtime.optional.Economy;
+import info.preva1l.hooker.runtime.optional.VaultHook;
+import info.preva1l.hooker.runtime.pending.WaitingHook;
+import info.preva1l.hooker.runtime.reload.SlowReloadHook;
+import info.preva1l.hooker.runtime.requirement.LocalHook;
+import info.preva1l.hooker.runtime.requirement.TimedOutRequirementHook;
+import info.preva1l.hooker.runtime.requirement.UnmetRequirementHook;
+import info.preva1l.hooker.runtime.retry.BrokenHook;
+import info.preva1l.hooker.runtime.retry.FlakyHook;
+import info.preva1l.hooker.runtime.shutdown.StopOrder;
+import info.preva1l.hooker.runtime.swap.SwapHook;
+import info.preva1l.hooker.runtime.watch.ShopHook;
+import info.preva1l.hooker.runtime.watch.WatchOrder;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.*;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Runs whole runtimes on executors standing in for the server threads, each test scans its own fixture package.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@DisplayName("Hooker Runtime Tests")
+public class HookerRuntimeTests {
+    private ExecutorService main;
+    private ExecutorService async;
+
+    @BeforeEach
+    public void setUp() {
+        main = Executors.newSingleThreadExecutor(task -> new Thread(task, "Test Main"));
+        async = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        main.shutdownNow();
+        async.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Test Async Requirements Fall Back When They Time Out")
+    public void testAsyncRequirementTimeout() throws Exception {
+        HookerRuntime runtime = runtime("requirement", options -> options);
+        // "slow" never answers so it uses the timeout result, "down" answers straight away
+        runtime.requirement(
+                "remote",
+                value -> value.equals("slow") ? new CompletableFuture<>() : CompletableFuture.completedFuture(false),
+                Duration.ofMillis(200),
+                true
+        );
+
+        CompletableFuture<LoadResult> future = runtime.load();
+        // hooks without async requirements don't wait for the ones that have them
+        Assertions.assertTrue(runtime.getHook(LocalHook.class).isPresent());
+        Assertions.assertFalse(runtime.getHook(TimedOutRequirementHook.class).isPresent());
+
+        LoadResult result = future.get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(List.of("localHook", "timedOutRequirementHook"), result.loaded().stream().sorted().toList());
+        Assertions.assertEquals(List.of("unmetRequirementHook"), result.skipped());
+        Assertions.assertTrue(result.duration() >= TimeUnit.MILLISECONDS.toNanos(200));
+        Assertions.assertTrue(runtime.getHook(TimedOutRequirementHook.class).isPresent());
+        Assertions.assertFalse(runtime.getHook(UnmetRequirementHook.class).isPresent());
+        runtime.disable();
+    }
+
+    @Test
+    @DisplayName("Test Shared Requirements Are Checked Once Per Phase")
+    public void testRequirementMemo() throws Exception {
+        HookerRuntime runtime = runtime("memo", options -> options);
+        AtomicInteger checks = new AtomicInteger();
+        AtomicBoolean available = new AtomicBoolean(true);
+        runtime.requirement("counted", value -> {
+            checks.incrementAndGet();
+            return available.get();
+        });
+
+        LoadResult load = runtime.load().get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(List.of("loadMemoHook", "otherLoadMemoHook"), load.loaded().stream().sorted().toList());
+        Assertions.assertEquals(1, checks.get());
+
+        // a new phase checks again instead of reusing the result from the last one
+        available.set(false);
+        LoadResult enable = runtime.enable().get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(List.of("enableMemoHook", "otherEnableMemoHook"), enable.skipped().stream().sorted().toList());
+        Assertions.assertEquals(2, checks.get());
+
+        // and so does a reload
+        available.set(true);
+        ReloadResult reload = runtime.reload().get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(List.of("enableMemoHook", "otherEnableMemoHook"), reload.reloaded().stream().sorted().toList());
+        Assertions.assertEquals(3, checks.get());
+        runtime.disable();
+    }
+
+    @Test
+    @DisplayName("Test Hooks Reload In Parallel And Slow Ones Time Out")
+    public void testParallelReload() throws Exception {
+        HookerRuntime runtime = runtime("reload", options -> options.reloadTimeout(Duration.ofSeconds(1)));
+        runtime.enable().get(5, TimeUnit.SECONDS);
+
+        // both slow hooks take 600ms, so they only fit in the timeout if they reload at the same time
+        ReloadResult result = runtime.reload().get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(List.of("otherSlowReloadHook", "slowReloadHook"), result.reloaded().stream().sorted().toList());
+        Assertions.assertEquals(List.of("stuckReloadHook"), result.timedOut());
+        Assertions.assertTrue(result.duration() < TimeUnit.MILLISECONDS.toNanos(1500));
+        Assertions.assertEquals(2, SlowReloadHook.STARTS.get());
+        runtime.disable();
+    }
+
+    @Test
+    @DisplayName("Test Swap Reloads Never Leave The Hook Unavailable")
+    public void testSwapReload() throws Exception {
+        HookerRuntime runtime = runtime("swap", options -> options);
+        runtime.enable().get(5, TimeUnit.SECONDS);
+        HookHandle<SwapHook> handle = runtime.handle(SwapHook.class);
+        SwapHook before = handle.get();
+        Assertions.assertNotNull(before);
+
+        // read the hook the whole time it is reloading, it must always be there and started,
+        // and it may only be stopped once it has been replaced
+        AtomicInteger gaps = new AtomicInteger();
+        CompletableFuture<ReloadResult> reload = runtime.reload();
+        while (!reload.isDone()) {
+            SwapHook hook = handle.get();
+            if (hook == null || !hook.started || runtime.getHook(SwapHook.class).isEmpty()) {
+                gaps.incrementAndGet();
+            } else if (hook.stopped && handle.get() == hook) {
+                gaps.incrementAndGet();
+            }
+        }
+
+        Assertions.assertEquals(List.of("swapHook"), reload.get(5, TimeUnit.SECONDS).reloaded());
+        Assertions.assertEquals(0, gaps.get());
+        Assertions.assertNotSame(before, handle.get());
+        Assertions.assertTrue(before.stopped);
+        Assertions.assertSame(handle.get(), runtime.getHook(SwapHook.class).orElseThrow());
+        runtime.disable();
+    }
+
+    @Test
+    @DisplayName("Test Hooks Stop After Their Dependents And Slow Stops Are Skipped")
+    public void testShutdownOrder() throws Exception {
+        HookerRuntime runtime = runtime("shutdown", options -> options.stopTimeout(Duration.ofMillis(300)));
+        Assertions.assertEquals(4, runtime.load().get(5, TimeUnit.SECONDS).count());
+
+        // web depends on cache (async) which depends on database, hanging never finishes stopping
+        DisableResult result = runtime.disable();
+        Assertions.assertEquals(List.of("webHook", "cacheHook", "databaseHook"), StopOrder.STOPPED);
+        Assertions.assertEquals(3, result.count());
+        Assertions.assertEquals(List.of("hangingHook"), result.timedOut());
+        Assertions.assertTrue(result.duration() < TimeUnit.SECONDS.toNanos(2));
+        Assertions.assertTrue(runtime.getLoadedHooks().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test Disabling Gives Up At The Shutdown Deadline")
+    public void testShutdownDeadline() throws Exception {
+        HookerRuntime runtime = runtime("deadline", options -> options
+                .stopTimeout(Duration.ofSeconds(10))
+                .shutdownTimeout(Duration.ofMillis(300)));
+        Assertions.assertEquals(2, runtime.load().get(5, TimeUnit.SECONDS).count());
+
+        // the base hook can't stop until the slow hook depending on it has, which is after the deadline
+        DisableResult result = runtime.disable();
+        Assertions.assertEquals(List.of("baseHook", "slowStopHook"), result.timedOut().stream().sorted().toList());
+        Assertions.assertFalse(BaseHook.stopped);
+        Assertions.assertTrue(result.duration() < TimeUnit.SECONDS.toNanos(2));
+        Assertions.assertTrue(runtime.getLoadedHooks().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test Hooks Still Waiting To Start Are Skipped Once Disabling Begins")
+    public void testDisableWhileWaiting() throws Exception {
+        HookerRuntime runtime = runtime("pending", options -> options);
+        CompletableFuture<LoadResult> load = runtime.load();
+        Assertions.assertFalse(load.isDone());
+
+        runtime.disable();
+        Assertions.assertEquals(List.of("waitingHook"), load.get(1, TimeUnit.SECONDS).skipped());
+
+        // a trigger firing afterwards must not start a hook that nothing would ever stop
+        runtime.signal("sent-too-late");
+        Thread.sleep(200);
+        Assertions.assertEquals(0, WaitingHook.STARTS.get());
+        Assertions.assertFalse(runtime.getHook(WaitingHook.class).isPresent());
+    }
+
+    @Test
+    @DisplayName("Test Awaiting Hooks Start From Their Triggers Or Time Out")
+    public void testAwaitSignal() throws Exception {
+        HookerRuntime runtime = runtime("await", options -> options.awaitTimeout(Duration.ofMillis(500)));
+        AtomicReference<String> checkedOn = new AtomicReference<>();
+        runtime.requirement("thread", value -> {
+            checkedOn.set(Thread.currentThread().getName());
+            return true;
+        });
+
+        CompletableFuture<LoadResult> load = runtime.load();
+        Assertions.assertFalse(runtime.getHook(SignalHook.class).isPresent());
+
+        // signals can come from any thread, the requirements of the hook waiting on it are still checked on the main one
+        CompletableFuture.runAsync(() -> runtime.signal("ready"), async).get(5, TimeUnit.SECONDS);
+        LoadResult result = load.get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(
+                List.of("chainedHook", "lazyTargetHook", "lazyWaiterHook", "signalHook"),
+                result.loaded().stream().sorted().toList()
+        );
+        Assertions.assertEquals(List.of("forgottenHook"), result.skipped());
+        Assertions.assertEquals("Test Main", checkedOn.get());
+        Assertions.assertTrue(result.duration() >= TimeUnit.MILLISECONDS.toNanos(500));
+        runtime.disable();
+    }
+
+    @Test
+    @DisplayName("Test Watched Hooks Start And Stop With Their Plugins")
+    public void testWatchPlugins() throws Exception {
+        ServerMock server = MockBukkit.mock();
+        try {
+            HookerRuntime runtime = runtime("watch", options -> options.watch(true));
+            runtime.attach(MockBukkit.createMockPlugin("HookerRuntimeTests"));
+            LoadResult result = runtime.load().get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(List.of("shopHook", "vaultHook"), result.skipped().stream().sorted().toList());
+            runtime.enable().get(5, TimeUnit.SECONDS);
+
+            // the hook depending on the vault hook is started once it has
+            CompletableFuture<ShopHook> shop = new CompletableFuture<>();
+            runtime.handle(ShopHook.class).onLoad(shop::complete);
+            Plugin vault = MockBukkit.createMockPlugin("Vault");
+            shop.get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(List.of("start vaultHook", "start shopHook"), WatchOrder.EVENTS);
+
+            // hooks are stopped while the plugin is disabling, dependents first
+            server.getPluginManager().disablePlugin(vault);
+            Assertions.assertEquals(
+                    List.of("start vaultHook", "start shopHook", "stop shopHook", "stop vaultHook"),
+                    WatchOrder.EVENTS
+            );
+            Assertions.assertTrue(runtime.getLoadedHooks().isEmpty());
+            runtime.disable();
+        } finally {
+            MockBukkit.unmock();
+        }
+    }
+
+    @Test
+    @DisplayName("Test Failing Hooks Are Retried With Backoff Until The Breaker Opens")
+    public void testRetry() throws Exception {
+        HookerRuntime runtime = runtime("retry", options -> options.circuitBreaker(3, Duration.ofMinutes(1)));
+        LoadResult result = runtime.load().get(5, TimeUnit.SECONDS);
+
+        // the flaky hook starts on its third attempt, and its dependent waits for it
+        Assertions.assertEquals(List.of("flakyDependentHook", "flakyHook"), result.loaded().stream().sorted().toList());
+        Assertions.assertEquals(3, FlakyHook.ATTEMPTS.get());
+        // the backoff doubles from 50ms and jitter takes off at most half, so the two retries wait at least 75ms
+        Assertions.assertTrue(result.duration() >= TimeUnit.MILLISECONDS.toNanos(75));
+
+        // the broken hook could be retried five times, but the breaker opens after three failures in a row
+        Assertions.assertEquals(3, BrokenHook.ATTEMPTS.get());
+        Assertions.assertEquals(Set.of("brokenHook"), result.failed().keySet());
+        Assertions.assertEquals(List.of("brokenDependentHook"), result.skipped());
+        runtime.disable();
+    }
+
+    @Test
+    @DisplayName("Test Lazy Hooks Requested Off The Main Thread Start On It")
+    public void testLazyStartsOnMain() throws Exception {
+        HookerRuntime runtime = runtime("lazy", options -> options);
+        runtime.load().get(5, TimeUnit.SECONDS);
+
+        CompletableFuture<MainThreadHook> started = new CompletableFuture<>();
+        HookHandle<MainThreadHook> handle = runtime.handle(MainThreadHook.class).onLoad(started::complete);
+        // the test thread isn't the main thread, so the request queues the start and gets nothing
+        Assertions.assertNull(handle.get());
+
+        Assertions.assertEquals("Test Main", started.get(5, TimeUnit.SECONDS).startedOn);
+        Assertions.assertSame(started.get(), handle.get());
+        runtime.disable();
+    }
+
+    @Test
+    @DisplayName("Test Hooks Using Types From Missing Plugins Still Register")
+    public void testMissingPluginTypes() throws Exception {
+        try (FixtureLoader loader = new FixtureLoader(Economy.class, Economy.class)) {
+            Class<?> vault = loader.loadClass(VaultHook.class.getName());
+            // the hook class itself loads, but its methods can't be resolved without the plugin
+            Assertions.assertThrows(NoClassDefFoundError.class, vault::getDeclaredMethods);
+
+            HookerRuntime runtime = runtime(vault, "optional", options -> options);
+            runtime.requirement("optional", value -> value.equals("StaleVault"));
+            LoadResult result = runtime.load().get(5, TimeUnit.SECONDS);
+
+            Assertions.assertEquals(List.of("coreHook"), result.loaded());
+            Assertions.assertEquals(List.of("vaultHook"), result.skipped());
+            // a requirement that passes while the plugin is still missing fails the hook, not the registration
+            Assertions.assertInstanceOf(IllegalStateException.class, result.failed().get("staleVaultHook"));
+            runtime.disable();
+        }
+    }
+
+    @Test
+    @DisplayName("Test Plugins With Their Own Class Loaders Get Their Own Runtimes")
+    public void testRuntimePerLoader() throws Exception {
+        try (FixtureLoader first = new FixtureLoader(IsolatedHook.class);
+             FixtureLoader second = new FixtureLoader(IsolatedHook.class)) {
+            Class<?> firstHook = first.loadClass(IsolatedHook.class.getName());
+            Class<?> secondHook = second.loadClass(IsolatedHook.class.getName());
+            HookExecutor executor = HookExecutor.pooled(4, 1);
+            HookerRuntime firstRuntime = Hooker.create(firstHook, options("isolation", executor));
+            HookerRuntime secondRuntime = Hooker.create(secondHook, options("isolation", executor));
+
+            Assertions.assertSame(firstRuntime, Hooker.runtime(first).orElseThrow());
+            Assertions.assertSame(secondRuntime, Hooker.runtime(second).orElseThrow());
+            Assertions.assertThrows(IllegalStateException.class, () -> Hooker.create(firstHook, options("isolation", executor)));
+
+            // both hooks share an id and a class name but only finish starting once the other has, so they can't share a lane
+            Rendezvous.expect(2);
+            CompletableFuture<LoadResult> firstLoad = firstRuntime.load();
+            CompletableFuture<LoadResult> secondLoad = secondRuntime.load();
+            Assertions.assertEquals(List.of("isolatedHook"), firstLoad.get(10, TimeUnit.SECONDS).loaded());
+            Assertions.assertEquals(List.of("isolatedHook"), secondLoad.get(10, TimeUnit.SECONDS).loaded());
+            Assertions.assertSame(firstHook, firstRuntime.getLoadedHooks().get(0).getClass());
+            Assertions.assertSame(secondHook, secondRuntime.getLoadedHooks().get(0).getClass());
+
+            // disabling a runtime frees its loader without touching the other one
+            firstRuntime.disable();
+            Assertions.assertTrue(Hooker.runtime(first).isEmpty());
+            Assertions.assertSame(secondRuntime, Hooker.runtime(second).orElseThrow());
+
+            HookerRuntime recreated = Hooker.create(firstHook, options("isolation", executor));
+            Assertions.assertSame(recreated, Hooker.runtime(first).orElseThrow());
+            recreated.disable();
+            secondRuntime.disable();
+            Assertions.assertTrue(Hooker.runtime(second).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Test The Listener Receives Every Stage And Its Outcome")
+    public void testListenerStages() throws Exception {
+        HookMetrics metrics = new HookMetrics(false);
+        HookerRuntime runtime = runtime("metrics", options -> options.listener(metrics));
+        runtime.requirement("metered", value -> false);
+
+        LoadResult result = runtime.load().get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(List.of("measuredHook"), result.loaded());
+        Assertions.assertEquals(4, metrics.scan().hooks());
+        runtime.disable();
+
+        Assertions.assertEquals(List.of("REQUIREMENTS SUCCESS", "CONSTRUCT SUCCESS", "START SUCCESS", "STOP SUCCESS"),
+                stages(metrics, "measuredHook"));
+        Assertions.assertEquals(List.of("REQUIREMENTS SUCCESS", "CONSTRUCT SUCCESS", "START SKIPPED"),
+                stages(metrics, "decliningHook"));
+        Assertions.assertEquals(List.of("REQUIREMENTS SUCCESS", "CONSTRUCT SUCCESS", "START FAILED"),
+                stages(metrics, "failingMetricsHook"));
+        Assertions.assertEquals(List.of("REQUIREMENTS SKIPPED"), stages(metrics, "unmetMetricsHook"));
+
+        // failures carry their cause, and every stage is counted towards its hook's total
+        for (HookStageEvent event : metrics.events()) {
+            Assertions.assertEquals(event.outcome() == HookStageEvent.Outcome.FAILED, event.error() != null);
+            Assertions.assertTrue(event.duration() >= 0);
+        }
+        Assertions.assertEquals(Set.of("measuredHook", "decliningHook", "failingMetricsHook", "unmetMetricsHook"),
+                metrics.totals().keySet());
+    }
+
+    private HookerRuntime runtime(String fixtures, UnaryOperator<HookerOptions.Builder> options) {
+        return runtime(HookerRuntimeTests.class, fixtures, options);
+    }
+
+    private HookerRuntime runtime(Class<?> clazz, String fixtures, UnaryOperator<HookerOptions.Builder> options) {
+        HookerOptions.Builder builder = HookerOptions.builder("info.preva1l.hooker.runtime." + fixtures)
+                .scheduler(HookScheduler.executor(main, async));
+        return new HookerRuntime(clazz, options.apply(builder).build());
+    }
+
+    private static List<String> stages(HookMetrics metrics, String hook) {
+        return metrics.events().stream()
+                .filter(event -> event.hookId().equals(hook))
+                .map(event -> event.stage() + " " + event.outcome())
+                .toList();
+    }
+
+    private HookerOptions options(String fixtures, HookExecutor executor) {
+        return HookerOptions.builder("info.preva1l.hooker.runtime." + fixtures)
+                .scheduler(HookScheduler.executor(main, async))
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * Loads its own copy of a fixture package, like a plugin's class loader, hiding some classes
+     * as if the plugins providing them weren't installed.
+     */
+    private static final class FixtureLoader extends URLClassLoader {
+        private final String fixtures;
+        private final Set<String> hidden;
+
+        private FixtureLoader(Class<?> fixture, Class<?>... hidden) {
+            super(new URL[]{fixture.getProtectionDomain().getCodeSource().getLocation()},
+                    HookerRuntimeTests.class.getClassLoader());
+            this.fixtures = fixture.getPackageName() + ".";
+            this.hidden = Arrays.stream(hidden).map(Class::getName).collect(Collectors.toSet());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(fixtures)) return super.loadClass(name, resolve);
+            if (hidden.contains(name)) throw new ClassNotFoundException(name);
+
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) loaded = findClass(name);
+                if (resolve) resolveClass(loaded);
+                return loaded;
+            }
+        }
+    }
+}
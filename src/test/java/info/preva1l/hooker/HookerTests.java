@@ -4,6 +4,7 @@ import be.seeseemelk.mockbukkit.MockBukkit;
 import be.seeseemelk.mockbukkit.ServerMock;
 import info.preva1l.hooker.example.MyPlugin;
 import info.preva1l.hooker.example.hooks.LateHook;
+import info.preva1l.hooker.example.hooks.LazyHook;
 import info.preva1l.hooker.example.hooks.OnEnableHook;
 import info.preva1l.hooker.example.hooks.OnLoadHook;
 import org.junit.jupiter.api.*;
@@ -53,6 +54,19 @@ public class HookerTests {
         Assertions.assertTrue(Hooker.getHook(OnEnableHook.class).isPresent());
     }
 
+    @Test
+    @DisplayName("Test Lazy Hook Gets Loaded On Demand")
+    public void testLoadingOnDemand() {
+        HookHandle<LazyHook> handle = Hooker.handle(LazyHook.class);
+        Assertions.assertFalse(handle.isLoaded());
+        Assertions.assertEquals(0, LazyHook.STARTS.get());
+
+        Assertions.assertTrue(Hooker.getHook(LazyHook.class).isPresent());
+        Assertions.assertSame(handle.get(), Hooker.getHook(LazyHook.class).orElseThrow());
+        Assertions.assertTrue(handle.isLoaded());
+        Assertions.assertEquals(1, LazyHook.STARTS.get());
+    }
+
     @Test
     @DisplayName("Test Hook Reloading")
     public void testReloadHooks() {
@@ -74,10 +88,17 @@ public class HookerTests {
     @Test
     @DisplayName("Test Hooks Get Disabled")
     public void testHooksGetDisabled() {
+        HookHandle<OnEnableHook> handle = Hooker.handle(OnEnableHook.class);
+        Assertions.assertTrue(handle.isLoaded());
+        AtomicBoolean unloaded = new AtomicBoolean(false);
+        handle.onUnload(hook -> unloaded.set(true));
+
         serverMock.getPluginManager().disablePlugin(plugin);
 
         Assertions.assertFalse(Hooker.getHook(OnLoadHook.class).isPresent());
         Assertions.assertFalse(Hooker.getHook(OnEnableHook.class).isPresent());
         Assertions.assertFalse(Hooker.getHook(LateHook.class).isPresent());
+        Assertions.assertFalse(handle.isLoaded());
+        Assertions.assertTrue(unloaded.get());
     }
 }
\ No newline at end of file
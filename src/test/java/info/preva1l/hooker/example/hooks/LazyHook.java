@@ -0,0 +1,24 @@
+package info.preva1l.hooker.example.hooks;
+
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.Lazy;
+import info.preva1l.hooker.annotation.OnStart;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "lazyHook")
+@Lazy
+public class LazyHook {
+    public static final AtomicInteger STARTS = new AtomicInteger();
+
+    @OnStart
+    public void onStart() {
+        STARTS.incrementAndGet();
+        System.out.println("lazyHook is started!");
+    }
+}
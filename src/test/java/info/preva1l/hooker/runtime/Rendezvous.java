@@ -0,0 +1,31 @@
+package info.preva1l.hooker.runtime;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lets hooks loaded by different class loaders wait for each other, it is always loaded by the test's own loader.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+public final class Rendezvous {
+    private static volatile CountDownLatch arrived = new CountDownLatch(0);
+
+    private Rendezvous() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static void expect(int parties) {
+        arrived = new CountDownLatch(parties);
+    }
+
+    public static void arrive() throws InterruptedException {
+        CountDownLatch latch = arrived;
+        latch.countDown();
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Not every party arrived!");
+        }
+    }
+}
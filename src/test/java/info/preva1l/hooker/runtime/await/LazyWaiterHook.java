@@ -0,0 +1,17 @@
+package info.preva1l.hooker.runtime.await;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.*;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "lazyWaiterHook", order = HookOrder.LOAD)
+@Await(type = Await.HOOK, value = "lazyTargetHook")
+public class LazyWaiterHook {
+    @OnStart
+    public void onStart() {
+    }
+}
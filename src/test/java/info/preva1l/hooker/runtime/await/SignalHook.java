@@ -0,0 +1,18 @@
+package info.preva1l.hooker.runtime.await;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.*;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "signalHook", order = HookOrder.LOAD)
+@Await(type = Await.SIGNAL, value = "ready")
+@Require(type = "thread", value = "signalHook")
+public class SignalHook {
+    @OnStart
+    public void onStart() {
+    }
+}
@@ -0,0 +1,25 @@
+package info.preva1l.hooker.runtime.deadline;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.OnStart;
+import info.preva1l.hooker.annotation.OnStop;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "baseHook", order = HookOrder.LOAD)
+public class BaseHook {
+    public static volatile boolean stopped;
+
+    @OnStart
+    public void onStart() {
+    }
+
+    @OnStop
+    public void onStop() {
+        stopped = true;
+    }
+}
@@ -0,0 +1,19 @@
+package info.preva1l.hooker.runtime.isolation;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.OnStart;
+import info.preva1l.hooker.runtime.Rendezvous;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "isolatedHook", order = HookOrder.LOAD, async = true)
+public class IsolatedHook {
+    @OnStart
+    public void onStart() throws InterruptedException {
+        Rendezvous.arrive();
+    }
+}
@@ -0,0 +1,22 @@
+package info.preva1l.hooker.runtime.lazy;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.Lazy;
+import info.preva1l.hooker.annotation.OnStart;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "mainThreadHook", order = HookOrder.LOAD)
+@Lazy
+public class MainThreadHook {
+    public volatile String startedOn;
+
+    @OnStart
+    public void onStart() {
+        startedOn = Thread.currentThread().getName();
+    }
+}
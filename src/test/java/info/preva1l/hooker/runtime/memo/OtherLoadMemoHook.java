@@ -0,0 +1,21 @@
+package info.preva1l.hooker.runtime.memo;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.OnStart;
+
+import info.preva1l.hooker.annotation.Require;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "otherLoadMemoHook", order = HookOrder.LOAD)
+
+@Require(type = "counted", value = "shared")
+public class OtherLoadMemoHook {
+    @OnStart
+    public void onStart() {
+    }
+}
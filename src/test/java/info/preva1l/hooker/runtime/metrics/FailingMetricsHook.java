@@ -0,0 +1,18 @@
+package info.preva1l.hooker.runtime.metrics;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.OnStart;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "failingMetricsHook", order = HookOrder.LOAD)
+public class FailingMetricsHook {
+    @OnStart
+    public void onStart() {
+        throw new IllegalStateException("Failed on purpose!");
+    }
+}
@@ -0,0 +1,19 @@
+package info.preva1l.hooker.runtime.metrics;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.OnStart;
+import info.preva1l.hooker.annotation.Require;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "unmetMetricsHook", order = HookOrder.LOAD)
+@Require(type = "metered", value = "off")
+public class UnmetMetricsHook {
+    @OnStart
+    public void onStart() {
+    }
+}
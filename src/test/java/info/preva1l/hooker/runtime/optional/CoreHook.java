@@ -0,0 +1,17 @@
+package info.preva1l.hooker.runtime.optional;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.OnStart;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "coreHook", order = HookOrder.LOAD)
+public class CoreHook {
+    @OnStart
+    public void onStart() {
+    }
+}
@@ -0,0 +1,11 @@
+package info.preva1l.hooker.runtime.optional;
+
+/**
+ * Stands in for a type from an optional plugin, the tests hide it from the hooks as if the plugin wasn't installed.
+ *
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+public class Economy {
+}
@@ -0,0 +1,20 @@
+package info.preva1l.hooker.runtime.optional;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.OnStart;
+import info.preva1l.hooker.annotation.Require;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "staleVaultHook", order = HookOrder.LOAD)
+@Require(type = "optional", value = "StaleVault")
+public class StaleVaultHook {
+    @OnStart
+    public Economy onStart() {
+        return null;
+    }
+}
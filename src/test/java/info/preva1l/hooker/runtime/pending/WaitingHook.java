@@ -0,0 +1,24 @@
+package info.preva1l.hooker.runtime.pending;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.Await;
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.OnStart;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "waitingHook", order = HookOrder.LOAD)
+@Await(type = Await.SIGNAL, value = "sent-too-late")
+public class WaitingHook {
+    public static final AtomicInteger STARTS = new AtomicInteger();
+
+    @OnStart
+    public void onStart() {
+        STARTS.incrementAndGet();
+    }
+}
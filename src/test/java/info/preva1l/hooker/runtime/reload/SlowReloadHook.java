@@ -0,0 +1,23 @@
+package info.preva1l.hooker.runtime.reload;
+
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.OnStart;
+import info.preva1l.hooker.annotation.Reloadable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "slowReloadHook")
+@Reloadable(async = true)
+public class SlowReloadHook {
+    public static final AtomicInteger STARTS = new AtomicInteger();
+
+    @OnStart
+    public void onStart() throws InterruptedException {
+        if (STARTS.getAndIncrement() > 0) Thread.sleep(600);
+    }
+}
@@ -0,0 +1,19 @@
+package info.preva1l.hooker.runtime.requirement;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.OnStart;
+import info.preva1l.hooker.annotation.Require;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "unmetRequirementHook", order = HookOrder.LOAD)
+@Require(type = "remote", value = "down")
+public class UnmetRequirementHook {
+    @OnStart
+    public void onStart() {
+    }
+}
@@ -0,0 +1,19 @@
+package info.preva1l.hooker.runtime.retry;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.DependsOn;
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.OnStart;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "brokenDependentHook", order = HookOrder.LOAD)
+@DependsOn("brokenHook")
+public class BrokenDependentHook {
+    @OnStart
+    public void onStart() {
+    }
+}
@@ -0,0 +1,24 @@
+package info.preva1l.hooker.runtime.retry;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "brokenHook", order = HookOrder.LOAD)
+@Retry(maxAttempts = 5, backoff = 10, unit = TimeUnit.MILLISECONDS)
+public class BrokenHook {
+    public static final AtomicInteger ATTEMPTS = new AtomicInteger();
+
+    @OnStart
+    public void onStart() {
+        ATTEMPTS.incrementAndGet();
+        throw new IllegalStateException("Broken");
+    }
+}
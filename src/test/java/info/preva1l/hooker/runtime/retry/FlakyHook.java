@@ -0,0 +1,23 @@
+package info.preva1l.hooker.runtime.retry;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "flakyHook", order = HookOrder.LOAD)
+@Retry(maxAttempts = 3, backoff = 50, unit = TimeUnit.MILLISECONDS)
+public class FlakyHook {
+    public static final AtomicInteger ATTEMPTS = new AtomicInteger();
+
+    @OnStart
+    public void onStart() {
+        if (ATTEMPTS.incrementAndGet() < 3) throw new IllegalStateException("Not ready yet");
+    }
+}
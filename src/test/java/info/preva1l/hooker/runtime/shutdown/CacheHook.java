@@ -0,0 +1,23 @@
+package info.preva1l.hooker.runtime.shutdown;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.*;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "cacheHook", order = HookOrder.LOAD, async = true)
+@DependsOn("databaseHook")
+public class CacheHook {
+    @OnStart
+    public void onStart() {
+    }
+
+    @OnStop
+    public void onStop() throws InterruptedException {
+        Thread.sleep(100);
+        StopOrder.STOPPED.add("cacheHook");
+    }
+}
@@ -0,0 +1,21 @@
+package info.preva1l.hooker.runtime.shutdown;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.*;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "databaseHook", order = HookOrder.LOAD)
+public class DatabaseHook {
+    @OnStart
+    public void onStart() {
+    }
+
+    @OnStop
+    public void onStop() {
+        StopOrder.STOPPED.add("databaseHook");
+    }
+}
@@ -0,0 +1,22 @@
+package info.preva1l.hooker.runtime.shutdown;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.*;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "hangingHook", order = HookOrder.LOAD, async = true)
+public class HangingHook {
+    @OnStart
+    public void onStart() {
+    }
+
+    @OnStop
+    public void onStop() throws InterruptedException {
+        Thread.sleep(5000);
+        StopOrder.STOPPED.add("hangingHook");
+    }
+}
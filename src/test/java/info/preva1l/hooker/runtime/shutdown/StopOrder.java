@@ -0,0 +1,16 @@
+package info.preva1l.hooker.runtime.shutdown;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+public final class StopOrder {
+    public static final List<String> STOPPED = new CopyOnWriteArrayList<>();
+
+    private StopOrder() {
+    }
+}
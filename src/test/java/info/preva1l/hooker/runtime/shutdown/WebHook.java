@@ -0,0 +1,22 @@
+package info.preva1l.hooker.runtime.shutdown;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.*;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "webHook", order = HookOrder.LOAD)
+@DependsOn("cacheHook")
+public class WebHook {
+    @OnStart
+    public void onStart() {
+    }
+
+    @OnStop
+    public void onStop() {
+        StopOrder.STOPPED.add("webHook");
+    }
+}
@@ -0,0 +1,34 @@
+package info.preva1l.hooker.runtime.swap;
+
+import info.preva1l.hooker.annotation.Hook;
+import info.preva1l.hooker.annotation.OnStart;
+import info.preva1l.hooker.annotation.OnStop;
+import info.preva1l.hooker.annotation.Reloadable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "swapHook")
+@Reloadable(swap = true)
+public class SwapHook {
+    public static final AtomicInteger STARTS = new AtomicInteger();
+
+    public volatile boolean started;
+    public volatile boolean stopped;
+
+    @OnStart
+    public void onStart() throws InterruptedException {
+        // the replacement takes a while to start, the current instance has to keep serving until it has
+        if (STARTS.getAndIncrement() > 0) Thread.sleep(300);
+        started = true;
+    }
+
+    @OnStop
+    public void onStop() {
+        stopped = true;
+    }
+}
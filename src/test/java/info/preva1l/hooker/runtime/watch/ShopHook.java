@@ -0,0 +1,23 @@
+package info.preva1l.hooker.runtime.watch;
+
+import info.preva1l.hooker.HookOrder;
+import info.preva1l.hooker.annotation.*;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+@Hook(id = "shopHook", order = HookOrder.LOAD)
+@DependsOn("vaultHook")
+public class ShopHook {
+    @OnStart
+    public void onStart() {
+        WatchOrder.EVENTS.add("start shopHook");
+    }
+
+    @OnStop
+    public void onStop() {
+        WatchOrder.EVENTS.add("stop shopHook");
+    }
+}
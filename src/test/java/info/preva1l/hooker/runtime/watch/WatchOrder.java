@@ -0,0 +1,16 @@
+package info.preva1l.hooker.runtime.watch;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Created on 18/10/2026
+ *
+ * @author Preva1l
+ */
+public final class WatchOrder {
+    public static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+    private WatchOrder() {
+    }
+}